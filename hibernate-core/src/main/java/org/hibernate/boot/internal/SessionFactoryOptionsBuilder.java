@@ -16,6 +16,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -87,9 +88,11 @@ import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
+import static org.hibernate.cfg.AvailableSettings.CONNECTION_READ_YOUR_WRITES;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.DELAY_TRANSACTION_BEGIN;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_CATALOG;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
@@ -100,6 +103,7 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
@@ -109,6 +113,8 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.POLYMORPHIC_QUERY_EXECUTOR;
+import static org.hibernate.cfg.AvailableSettings.POLYMORPHIC_QUERY_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -117,6 +123,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -253,10 +260,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private final int jdbcStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
 	private boolean connectionProviderDisablesAutoCommit;
+	private final boolean delayTransactionBeginEnabled;
+	private final boolean readYourWritesEnabled;
 	private TimeZone jdbcTimeZone;
 	private final ValueHandlingMode criteriaValueHandlingMode;
 	private final boolean criteriaCopyTreeEnabled;
@@ -275,6 +285,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final int inClauseParameterArrayThreshold;
+	private final int polymorphicQueryParallelism;
+	private final Executor polymorphicQueryExecutor;
 
 	private final boolean portableIntegerDivisionEnabled;
 
@@ -538,6 +551,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -545,6 +559,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+		this.delayTransactionBeginEnabled = getBoolean( DELAY_TRANSACTION_BEGIN, configurationSettings );
+		this.readYourWritesEnabled = getBoolean( CONNECTION_READ_YOUR_WRITES, configurationSettings, true );
 
 		this.commentsEnabled = getBoolean( USE_SQL_COMMENTS, configurationSettings );
 
@@ -612,6 +628,20 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				IN_CLAUSE_PARAMETER_PADDING,
 				configurationSettings
 		);
+		this.inClauseParameterArrayThreshold = getInt(
+				IN_CLAUSE_PARAMETER_ARRAY_THRESHOLD,
+				configurationSettings,
+				0
+		);
+		this.polymorphicQueryParallelism = getInt(
+				POLYMORPHIC_QUERY_PARALLELISM,
+				configurationSettings,
+				1
+		);
+		this.polymorphicQueryExecutor = strategySelector.resolveStrategy(
+				Executor.class,
+				configurationSettings.get( POLYMORPHIC_QUERY_EXECUTOR )
+		);
 
 		this.portableIntegerDivisionEnabled = getBoolean(
 				PORTABLE_INTEGER_DIVISION,
@@ -1151,6 +1181,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1166,6 +1201,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return connectionProviderDisablesAutoCommit;
 	}
 
+	@Override
+	public boolean isDelayTransactionBeginEnabled() {
+		return delayTransactionBeginEnabled;
+	}
+
+	@Override
+	public boolean isReadYourWritesEnabled() {
+		return readYourWritesEnabled;
+	}
+
 	@Override
 	public boolean isCommentsEnabled() {
 		return commentsEnabled;
@@ -1241,6 +1286,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int getInClauseParameterArrayThreshold() {
+		return inClauseParameterArrayThreshold;
+	}
+
+	@Override
+	public int getPolymorphicQueryParallelism() {
+		return polymorphicQueryParallelism;
+	}
+
+	@Override
+	public Executor getPolymorphicQueryExecutor() {
+		return polymorphicQueryExecutor;
+	}
+
 	@Override
 	public boolean isPortableIntegerDivisionEnabled() {
 		return portableIntegerDivisionEnabled;
@@ -160,6 +160,7 @@ class IndexBinder {
 			String[] columnNames,
 			String[] orderings,
 			boolean unique,
+			String options,
 			Selectable[] columns) {
 		final IndexOrUniqueKeyNameSource source =
 				new IndexOrUniqueKeyNameSource( context, table, columnNames, originalKeyName );
@@ -182,6 +183,7 @@ class IndexBinder {
 			final String keyName = getImplicitNamingStrategy().determineIndexName( source ).render( getDialect() );
 			final Index index = table.getOrCreateIndex( keyName );
 			index.setUnique( unique );
+			index.setOptions( options );
 			for ( int i = 0; i < columns.length; i++ ) {
 				index.addColumn( columns[i], orderings != null ? orderings[i] : null );
 			}
@@ -210,6 +212,7 @@ class IndexBinder {
 					columnExpressions,
 					ordering,
 					unique,
+					index.options(),
 					selectables( table, name, columnExpressions )
 			);
 		}
@@ -226,6 +229,7 @@ class IndexBinder {
 					columnNames,
 					null,
 					true,
+					null,
 					columns( table, name, columnNames )
 			);
 		}
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -314,6 +315,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -324,6 +330,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public boolean isDelayTransactionBeginEnabled() {
+		return delegate.isDelayTransactionBeginEnabled();
+	}
+
+	@Override
+	public boolean isReadYourWritesEnabled() {
+		return delegate.isReadYourWritesEnabled();
+	}
+
 	@Override
 	public boolean isCommentsEnabled() {
 		return delegate.isCommentsEnabled();
@@ -423,6 +439,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public int getInClauseParameterArrayThreshold() {
+		return delegate.getInClauseParameterArrayThreshold();
+	}
+
+	@Override
+	public int getPolymorphicQueryParallelism() {
+		return delegate.getPolymorphicQueryParallelism();
+	}
+
+	@Override
+	public Executor getPolymorphicQueryExecutor() {
+		return delegate.getPolymorphicQueryExecutor();
+	}
+
 	@Override
 	public boolean isPortableIntegerDivisionEnabled() {
 		return delegate.isPortableIntegerDivisionEnabled();
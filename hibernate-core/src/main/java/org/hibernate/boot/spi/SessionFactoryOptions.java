@@ -7,6 +7,7 @@
 package org.hibernate.boot.spi;
 
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -188,12 +189,33 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#DELAY_TRANSACTION_BEGIN
+	 */
+	default boolean isDelayTransactionBeginEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_READ_YOUR_WRITES
+	 */
+	default boolean isReadYourWritesEnabled() {
+		return true;
+	}
+
 	boolean isCommentsEnabled();
 
 
@@ -273,6 +295,27 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_THRESHOLD
+	 */
+	default int getInClauseParameterArrayThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#POLYMORPHIC_QUERY_PARALLELISM
+	 */
+	default int getPolymorphicQueryParallelism() {
+		return 1;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#POLYMORPHIC_QUERY_EXECUTOR
+	 */
+	default Executor getPolymorphicQueryExecutor() {
+		return null;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#PORTABLE_INTEGER_DIVISION
 	 */
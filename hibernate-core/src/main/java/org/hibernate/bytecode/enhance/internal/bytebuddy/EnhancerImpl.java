@@ -40,6 +40,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
@@ -59,7 +60,11 @@ import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.StubMethod;
 
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
 import static net.bytebuddy.matcher.ElementMatchers.isDefaultFinalizer;
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesNoArguments;
 
 public class EnhancerImpl implements Enhancer {
 
@@ -150,6 +155,31 @@ public class EnhancerImpl implements Enhancer {
 		}
 	}
 
+	@Override
+	public byte[] generateProxy(String className, byte[] bytes) throws EnhancementException {
+		typePool.registerClassNameAndBytes( className, bytes );
+		try {
+			final TypeDescription typeDescription = typePool.describe( className ).resolve();
+			if ( typeDescription.isInterface() || typeDescription.isRecord() || typeDescription.isFinal()
+					|| !enhancementContext.isEntityClass( typeDescription )
+					|| typeDescription.getDeclaredMethods()
+							.filter( isConstructor().and( takesNoArguments() ).and( not( isPrivate() ) ) )
+							.isEmpty() ) {
+				log.debugf( "Skipping proxy generation for [%s]: it's not a proxyable entity", className );
+				return null;
+			}
+			return new ByteBuddyProxyHelper( byteBuddyState )
+					.buildUnloadedPregeneratedProxy( typePool, typeDescription )
+					.getBytes();
+		}
+		catch (RuntimeException e) {
+			throw new EnhancementException( "Failed to generate proxy for class " + className, e );
+		}
+		finally {
+			typePool.deregisterClassNameAndBytes( className );
+		}
+	}
+
 	private DynamicType.Builder<?> doEnhance(Supplier<DynamicType.Builder<?>> builderSupplier, TypeDescription managedCtClass) {
 		// can't effectively enhance interfaces
 		if ( managedCtClass.isInterface() ) {
@@ -67,6 +67,11 @@ public final class EnhancerImplConstants {
 			return Version.getVersionString();
 		}
 
+		@Override
+		public boolean collectionReplacementTracked() {
+			return true;
+		}
+
 		@Override
 		public Class<? extends Annotation> annotationType() {
 			return EnhancementInfo.class;
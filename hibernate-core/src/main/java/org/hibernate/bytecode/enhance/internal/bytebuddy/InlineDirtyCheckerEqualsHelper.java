@@ -8,6 +8,7 @@ package org.hibernate.bytecode.enhance.internal.bytebuddy;
 
 import java.util.Objects;
 
+import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 
@@ -26,6 +27,23 @@ public final class InlineDirtyCheckerEqualsHelper {
 		return Objects.deepEquals( a, b );
 	}
 
+	public static boolean areSame(
+			PersistentAttributeInterceptable persistentAttributeInterceptable,
+			String fieldName,
+			Object a,
+			Object b) {
+		final PersistentAttributeInterceptor persistentAttributeInterceptor = persistentAttributeInterceptable.$$_hibernate_getInterceptor();
+		if ( persistentAttributeInterceptor instanceof BytecodeLazyAttributeInterceptor lazyAttributeInterceptor ) {
+			if ( !lazyAttributeInterceptor.isAttributeLoaded( fieldName ) ) {
+				return false;
+			}
+		}
+		else if ( persistentAttributeInterceptor != null ) {
+			return false;
+		}
+		return a == b;
+	}
+
 	public static boolean areEquals(
 			PersistentAttributeInterceptable persistentAttributeInterceptable,
 			String fieldName,
@@ -7,11 +7,15 @@
 package org.hibernate.bytecode.enhance.internal.bytebuddy;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
 
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl.AnnotatedFieldDescription;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
@@ -43,16 +47,21 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 
 	private final FieldDescription.InDefinedShape persistentField;
 	private final boolean applyLazyCheck;
+	// compare by reference rather than by equality, e.g. for collections
+	// which must not be initialized to check if a new instance was set
+	private final boolean applyIdentityCheck;
 
 	private InlineDirtyCheckingHandler(
 			Implementation delegate,
 			TypeDescription managedCtClass,
 			FieldDescription.InDefinedShape persistentField,
-			boolean applyLazyCheck) {
+			boolean applyLazyCheck,
+			boolean applyIdentityCheck) {
 		this.delegate = delegate;
 		this.managedCtClass = managedCtClass;
 		this.persistentField = persistentField;
 		this.applyLazyCheck = applyLazyCheck;
+		this.applyIdentityCheck = applyIdentityCheck;
 	}
 
 	static Implementation wrap(
@@ -66,14 +75,15 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 				implementation = Advice.to( CodeTemplates.CompositeDirtyCheckingHandler.class ).wrap( implementation );
 			}
 			else if ( !persistentField.hasAnnotation( Id.class )
-					&& !persistentField.hasAnnotation( EmbeddedId.class )
-					&& !( persistentField.getType().asErasure().isAssignableTo( Collection.class )
-					&& enhancementContext.isMappedCollection( persistentField ) ) ) {
+					&& !persistentField.hasAnnotation( EmbeddedId.class ) ) {
+				// mapped collections are tracked when a different instance is set, changes to
+				// their elements are tracked by the collection wrapper and the collection tracker
 				implementation = new InlineDirtyCheckingHandler(
 						implementation,
 						managedCtClass,
 						persistentField.asDefined(),
-						enhancementContext.hasLazyLoadableAttributes( managedCtClass )
+						enhancementContext.hasLazyLoadableAttributes( managedCtClass ),
+						isMappedCollection( persistentField, enhancementContext )
 				);
 			}
 
@@ -98,6 +108,20 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 		return implementation;
 	}
 
+	private static boolean isMappedCollection(
+			AnnotatedFieldDescription persistentField,
+			ByteBuddyEnhancementContext enhancementContext) {
+		final TypeDescription fieldType = persistentField.getType().asErasure();
+		if ( fieldType.isArray() ) {
+			// arrays are basic values unless explicitly mapped as plural attributes
+			return persistentField.hasAnnotation( ElementCollection.class )
+					|| persistentField.hasAnnotation( OneToMany.class )
+					|| persistentField.hasAnnotation( ManyToMany.class );
+		}
+		return ( fieldType.isAssignableTo( Collection.class ) || fieldType.isAssignableTo( Map.class ) )
+				&& enhancementContext.isMappedCollection( persistentField );
+	}
+
 	@Override
 	public ByteCodeAppender appender(Target implementationTarget) {
 		return new ByteCodeAppender.Compound( this, delegate.appender( implementationTarget ) );
@@ -139,7 +163,28 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 			);
 		}
 		int branchCode;
-		if ( applyLazyCheck ) {
+		if ( applyIdentityCheck ) {
+			if ( applyLazyCheck ) {
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKESTATIC,
+						HELPER_TYPE_NAME,
+						"areSame",
+						Type.getMethodDescriptor(
+								Type.BOOLEAN_TYPE,
+								PE_INTERCEPTABLE_TYPE,
+								STRING_TYPE,
+								OBJECT_TYPE,
+								OBJECT_TYPE
+						),
+						false
+				);
+				branchCode = Opcodes.IFNE;
+			}
+			else {
+				branchCode = Opcodes.IF_ACMPEQ;
+			}
+		}
+		else if ( applyLazyCheck ) {
 			if ( persistentField.getType().isPrimitive() ) {
 				final Type fieldType = Type.getType( persistentField.getDescriptor() );
 				methodVisitor.visitMethodInsn(
@@ -233,13 +278,15 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 			return false;
 		}
 		final InlineDirtyCheckingHandler that = (InlineDirtyCheckingHandler) o;
-		return Objects.equals( delegate, that.delegate ) &&
+		return applyLazyCheck == that.applyLazyCheck &&
+			applyIdentityCheck == that.applyIdentityCheck &&
+			Objects.equals( delegate, that.delegate ) &&
 			Objects.equals( managedCtClass, that.managedCtClass ) &&
 			Objects.equals( persistentField, that.persistentField );
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash( delegate, managedCtClass, persistentField );
+		return Objects.hash( delegate, managedCtClass, persistentField, applyLazyCheck, applyIdentityCheck );
 	}
 }
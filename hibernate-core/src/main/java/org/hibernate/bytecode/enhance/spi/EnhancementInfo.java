@@ -22,4 +22,12 @@ public @interface EnhancementInfo {
 	 * The Hibernate version used for enhancement.
 	 */
 	String version();
+
+	/**
+	 * Whether setting a different instance into a mapped collection field marks the
+	 * attribute dirty. Classes enhanced by older versions do not track this.
+	 *
+	 * @since 7.0
+	 */
+	boolean collectionReplacementTracked() default false;
 }
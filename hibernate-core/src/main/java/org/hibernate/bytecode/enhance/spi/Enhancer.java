@@ -43,4 +43,24 @@ public interface Enhancer {
 	 * @since 6.3
 	 */
 	void discoverTypes(String className, byte[] originalBytes) throws EnhancementException;
+
+	/**
+	 * Generates the lazy loading proxy class of an entity class, so that it does not need to be
+	 * generated when the {@code SessionFactory} is built. The proxy class is named after the entity
+	 * class, suffixed with {@link EnhancerConstants#PROXY_CLASS_NAME_SUFFIX}, and is located at runtime
+	 * through the class loader of the entity class.
+	 * <p>
+	 * The proxy must be generated from the final bytecode of the entity class, that is after enhancement.
+	 *
+	 * @param className The name of the entity class.
+	 * @param bytes The entity class's final byte code
+	 *
+	 * @return The proxy bytecode. If the class is not an entity or cannot be proxied, null is returned.
+	 *
+	 * @throws EnhancementException Indicates a problem generating the proxy
+	 * @since 7.0
+	 */
+	default byte[] generateProxy(String className, byte[] bytes) throws EnhancementException {
+		return null;
+	}
 }
@@ -186,6 +186,14 @@ public final class EnhancerConstants {
 	public static final String USE_TRACKER_GETTER_NAME = "$$_hibernate_useTracker";
 	public static final String USE_TRACKER_SETTER_NAME = "$$_hibernate_setUseTracker";
 
+	/**
+	 * Suffix appended to the name of an entity class to name its lazy loading proxy class,
+	 * when the proxy class is generated at build time.
+	 *
+	 * @see Enhancer#generateProxy(String, byte[])
+	 */
+	public static final String PROXY_CLASS_NAME_SUFFIX = "$HibernateProxy";
+
 
 	private EnhancerConstants() {
 	}
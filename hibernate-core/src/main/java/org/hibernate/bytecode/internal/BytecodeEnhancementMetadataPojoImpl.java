@@ -10,6 +10,7 @@ import java.util.Set;
 
 import org.hibernate.LockMode;
 import org.hibernate.boot.Metadata;
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
@@ -64,16 +65,34 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 				identifierAttributeNames,
 				nonAggregatedCidMapper,
 				enhancedForLazyLoading,
-				lazyAttributesMetadata
+				lazyAttributesMetadata,
+				isCollectionReplacementTracked( mappedClass )
 		);
 	}
 
+	private static boolean isCollectionReplacementTracked(Class<?> mappedClass) {
+		// every enhanced class in the hierarchy must track it, since
+		// the classes might have been enhanced by different versions
+		boolean tracked = false;
+		for ( Class<?> type = mappedClass; type != null && type != Object.class; type = type.getSuperclass() ) {
+			final EnhancementInfo info = type.getDeclaredAnnotation( EnhancementInfo.class );
+			if ( info != null ) {
+				if ( !info.collectionReplacementTracked() ) {
+					return false;
+				}
+				tracked = true;
+			}
+		}
+		return tracked;
+	}
+
 	private final String entityName;
 	private final Class<?> entityClass;
 	private final Set<String> identifierAttributeNames;
 	private final CompositeType nonAggregatedCidMapper;
 	private final boolean enhancedForLazyLoading;
 	private final LazyAttributesMetadata lazyAttributesMetadata;
+	private final boolean collectionReplacementTracked;
 
 	BytecodeEnhancementMetadataPojoImpl(
 			String entityName,
@@ -81,7 +100,8 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 			Set<String> identifierAttributeNames,
 			CompositeType nonAggregatedCidMapper,
 			boolean enhancedForLazyLoading,
-			LazyAttributesMetadata lazyAttributesMetadata) {
+			LazyAttributesMetadata lazyAttributesMetadata,
+			boolean collectionReplacementTracked) {
 		this.nonAggregatedCidMapper = nonAggregatedCidMapper;
 		assert identifierAttributeNames != null;
 		assert !identifierAttributeNames.isEmpty();
@@ -91,6 +111,7 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 		this.identifierAttributeNames = identifierAttributeNames;
 		this.enhancedForLazyLoading = enhancedForLazyLoading;
 		this.lazyAttributesMetadata = lazyAttributesMetadata;
+		this.collectionReplacementTracked = collectionReplacementTracked;
 	}
 
 	@Override
@@ -103,6 +124,11 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 		return enhancedForLazyLoading;
 	}
 
+	@Override
+	public boolean isCollectionReplacementTracked() {
+		return collectionReplacementTracked;
+	}
+
 	@Override
 	public LazyAttributesMetadata getLazyAttributesMetadata() {
 		return lazyAttributesMetadata;
@@ -137,6 +137,28 @@ public final class ByteBuddyState {
 		.getLoaded();
 	}
 
+	/**
+	 * Load a class generated by ByteBuddy as a hidden class belonging to the nest of the given host class,
+	 * which grants the generated class access to the private members of the host class.
+	 * <p>
+	 * The generated class must be in the package of the host class and cannot be referenced by name.
+	 *
+	 * @param hostClass The class whose private members are accessed by the generated class.
+	 * @param makeClassFunction A function building the class.
+	 * @return The loaded generated class.
+	 * @throws IllegalAccessException if Hibernate ORM is not allowed to define classes in the nest of the host class,
+	 * e.g. because of the Java module system.
+	 */
+	Class<?> loadNestmate(Class<?> hostClass, Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction)
+			throws IllegalAccessException {
+		final Unloaded<?> result = make( makeClassFunction.apply( byteBuddy ) );
+		final Class<?> loaded = MethodHandles.privateLookupIn( hostClass, LOOKUP )
+				.defineHiddenClass( result.getBytes(), true, MethodHandles.Lookup.ClassOption.NESTMATE )
+				.lookupClass();
+		result.getLoadedTypeInitializers().get( result.getTypeDescription() ).onLoad( loaded );
+		return loaded;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
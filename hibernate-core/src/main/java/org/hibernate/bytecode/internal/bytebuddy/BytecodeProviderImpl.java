@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerClassLocator;
@@ -49,6 +50,7 @@ import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
@@ -240,7 +242,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		Class<?> superClass = determineAccessOptimizerSuperClass( clazz, getters, setters );
 
 		final String[] propertyNames = propertyAccessMap.keySet().toArray( new String[0] );
-		final Class<?> bulkAccessor = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+		final Function<ByteBuddy, DynamicType.Builder<?>> bulkAccessorBuilder = byteBuddy -> byteBuddy
 				.with( new NamingStrategy.SuffixingRandom(
 						OPTIMIZER_PROXY_NAMING_SUFFIX,
 						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
@@ -252,8 +254,22 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				.method( setPropertyValuesMethodName )
 				.intercept( new Implementation.Simple( new SetPropertyValues( clazz, propertyNames, setters ) ) )
 				.method( getPropertyNamesMethodName )
-				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) )
-		);
+				.intercept( MethodCall.call( new CloningPropertyCall( propertyNames ) ) );
+
+		final Class<?> bulkAccessor;
+		if ( hasPrivateMember( getters ) || hasPrivateMember( setters ) ) {
+			// private members of the class itself are accessed by nesting the accessor in the class
+			try {
+				bulkAccessor = byteBuddyState.loadNestmate( clazz, bulkAccessorBuilder );
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				LOG.unableToGenerateReflectionOptimizer( clazz.getName(), ex.getMessage() );
+				return null;
+			}
+		}
+		else {
+			bulkAccessor = byteBuddyState.load( clazz, bulkAccessorBuilder );
+		}
 
 		try {
 			return new ReflectionOptimizerImpl(
@@ -1242,10 +1258,12 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 						)
 				);
 			}
-			if ( Modifier.isPrivate( getterMember.getModifiers() ) ) {
+			// private members can only be accessed when declared by the class itself,
+			// see ByteBuddyState#loadNestmate
+			if ( Modifier.isPrivate( getterMember.getModifiers() ) && getterMember.getDeclaringClass() != clazz ) {
 				throw new PrivateAccessorException( "private accessor [" + getterMember.getName() + "]" );
 			}
-			if ( Modifier.isPrivate( setterMember.getModifiers() ) ) {
+			if ( Modifier.isPrivate( setterMember.getModifiers() ) && setterMember.getDeclaringClass() != clazz ) {
 				throw new PrivateAccessorException( "private accessor [" + setterMember.getName() + "]" );
 			}
 			getters[i] = getterMember;
@@ -1254,6 +1272,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static boolean hasPrivateMember(Member[] members) {
+		for ( Member member : members ) {
+			if ( member != EMBEDDED_MEMBER && Modifier.isPrivate( member.getModifiers() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static Method findAccessor(Class<?> containerClazz, String name, Class<?>[] params)
 			throws PrivateAccessorException {
 		Class<?> clazz = containerClazz;
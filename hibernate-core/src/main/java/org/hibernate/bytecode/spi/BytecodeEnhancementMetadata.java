@@ -89,4 +89,15 @@ public interface BytecodeEnhancementMetadata {
 	boolean hasUnFetchedAttributes(Object entity);
 
 	boolean isAttributeLoaded(Object entity, String attributeName);
+
+	/**
+	 * Does the enhanced entity class mark a mapped collection attribute dirty when
+	 * a different collection instance is set? This is not the case for classes
+	 * enhanced by older versions of Hibernate.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.EnhancementInfo#collectionReplacementTracked()
+	 */
+	default boolean isCollectionReplacementTracked() {
+		return false;
+	}
 }
@@ -283,6 +283,50 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT= "hibernate.connection.provider_disables_autocommit";
 
+	/**
+	 * When enabled, beginning a JDBC resource-local transaction does not acquire a JDBC
+	 * connection. Instead, the connection is acquired, and its auto-commit disabled, when
+	 * the transaction first needs one, typically to execute a SQL statement. A transaction
+	 * which is served entirely from the second-level cache never acquires a connection.
+	 * <p>
+	 * This setting has no effect when connections are acquired
+	 * {@linkplain org.hibernate.ConnectionAcquisitionMode#IMMEDIATELY immediately} on
+	 * opening a session, nor when
+	 * {@value #CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT} is enabled, in which case
+	 * beginning a transaction never requires a connection.
+	 * <p>
+	 * Since the connection is only acquired once the transaction needs it, a session
+	 * which is made {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only}
+	 * after beginning a transaction still obtains a
+	 * {@linkplain ConnectionProvider#getReadOnlyConnection() read-only connection}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.PrimaryReplicaConnectionProvider
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String DELAY_TRANSACTION_BEGIN = "hibernate.connection.delay_transaction_begin";
+
+	/**
+	 * When enabled, a session which has executed a statement modifying the database
+	 * obtains every connection it subsequently acquires from the primary database, even
+	 * while it is {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only},
+	 * so that it reads its own writes. Otherwise, a read-only session with
+	 * {@link org.hibernate.FlushMode#MANUAL} always obtains a
+	 * {@linkplain ConnectionProvider#getReadOnlyConnection() read-only connection}, which
+	 * might come from a replica lagging behind the primary database.
+	 *
+	 * @settingDefault {@code true}
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.PrimaryReplicaConnectionProvider
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CONNECTION_READ_YOUR_WRITES = "hibernate.connection.read_your_writes";
+
 	/**
 	 * A prefix for properties specifying arbitrary JDBC connection properties. These
 	 * properties are simply passed along to the provider when creating a connection.
@@ -362,6 +406,25 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * The maximum number of idle JDBC prepared statements which are kept open per
+	 * JDBC connection of a session, to be reused when the same SQL is prepared
+	 * again, instead of being closed when they are released. Statements are keyed
+	 * by their SQL and the options they were prepared with, and are closed when the
+	 * session releases its connection. Callable statements are never cached.
+	 * <p>
+	 * This is only useful when neither the JDBC driver nor the connection pool
+	 * cache prepared statements. If {@code 0}, statements are closed on release.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
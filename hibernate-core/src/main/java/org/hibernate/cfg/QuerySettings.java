@@ -194,11 +194,73 @@ public interface QuerySettings {
 	 * integer power of two: 4, 8, 16, 32, 64. Thus, if 5, 6, or 7 arguments are bound
 	 * to a parameter, a SQL statement with 8 bind parameters in the {@code IN} clause
 	 * will be used, and null will be bound to the left-over parameters.
+	 * <p>
+	 * The query plan of an HQL or criteria query is then also shared by all numbers of
+	 * arguments which are padded to the same number of bind parameters.
 	 *
 	 * @since 5.2.17
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Specifies the number of arguments bound to a parameter occurring in a SQL
+	 * {@code IN} predicate from which on the arguments are bound as a single array
+	 * instead of being expanded to one bind parameter per argument, if the database
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters()
+	 * prefers arrays} for multi-valued parameters.
+	 * <p>
+	 * The same SQL statement is then used for any number of arguments beyond the
+	 * threshold. Parameters compared to a value of an entity, embeddable or converted
+	 * type, and parameters in a negated {@code IN} predicate, are always expanded.
+	 * <p>
+	 * By default, the arguments are never bound as an array.
+	 *
+	 * @since 7.0
+	 *
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 */
+	String IN_CLAUSE_PARAMETER_ARRAY_THRESHOLD = "hibernate.query.in_clause_parameter_array_threshold";
+
+	/**
+	 * Specifies the maximum number of SQL queries which may be executed concurrently
+	 * when a polymorphic query is split into one query per entity type, for example,
+	 * when querying an interface implemented by several unrelated entities.
+	 * <p>
+	 * The queries are only executed concurrently if no transaction is in progress,
+	 * no filter is enabled, and the query only selects values of basic type, so that
+	 * no entity instance is returned. The thread executing the query executes the
+	 * queries which no other thread has started, in its own session. The other
+	 * threads execute queries in a {@linkplain org.hibernate.StatelessSession
+	 * stateless session} of their own, and thus with their own JDBC connection. The
+	 * results are returned in the same order as when the queries are executed one
+	 * after the other.
+	 * <p>
+	 * Unless an executor is specified using {@value #POLYMORPHIC_QUERY_EXECUTOR},
+	 * the other threads are taken from a pool of the session factory, which has
+	 * one thread less than this setting. So, at most that many JDBC connections are
+	 * used in addition to the connections of the sessions, and the connection pool
+	 * should allow for them. When every thread of the pool is busy, the queries are
+	 * executed one after the other.
+	 * <p>
+	 * By default, the queries are always executed one after the other.
+	 *
+	 * @since 7.0
+	 */
+	String POLYMORPHIC_QUERY_PARALLELISM = "hibernate.query.polymorphic_query_parallelism";
+
+	/**
+	 * Specifies a {@link java.util.concurrent.Executor} which executes the queries of
+	 * a polymorphic query which is split into one query per entity type concurrently,
+	 * when {@value #POLYMORPHIC_QUERY_PARALLELISM} is greater than one. Accepts an
+	 * instance, a {@link Class} or the name of a class.
+	 * <p>
+	 * The executor is not shut down when the session factory is closed. If it rejects
+	 * a task, the remaining queries are executed by the thread executing the query.
+	 *
+	 * @since 7.0
+	 */
+	String POLYMORPHIC_QUERY_EXECUTOR = "hibernate.query.polymorphic_query_executor";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -6,7 +6,6 @@
  */
 package org.hibernate.dialect;
 
-import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -52,15 +51,13 @@ public class H2JsonJdbcType extends JsonJdbcType {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 					throws SQLException {
-				final String json = ( (H2JsonJdbcType) getJdbcType() ).toString( value, getJavaType(), options );
-				st.setBytes( index, json.getBytes( StandardCharsets.UTF_8 ) );
+				st.setBytes( index, ( (H2JsonJdbcType) getJdbcType() ).toBytes( value, getJavaType(), options ) );
 			}
 
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
-				final String json = ( (H2JsonJdbcType) getJdbcType() ).toString( value, getJavaType(), options );
-				st.setBytes( name, json.getBytes( StandardCharsets.UTF_8 ) );
+				st.setBytes( name, ( (H2JsonJdbcType) getJdbcType() ).toBytes( value, getJavaType(), options ) );
 			}
 		};
 	}
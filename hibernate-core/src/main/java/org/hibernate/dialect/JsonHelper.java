@@ -59,6 +59,17 @@ public class JsonHelper {
 		return sb.toString();
 	}
 
+	public static String toString(EmbeddableJsonMapping jsonMapping, Object value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		// size the buffer for the previous documents, rather than growing it repeatedly
+		final StringBuilder sb = new StringBuilder( jsonMapping.sizeHint() );
+		toString( jsonMapping.embeddableMappingType, value, options, new JsonAppender( sb ) );
+		jsonMapping.recordLength( sb.length() );
+		return sb.toString();
+	}
+
 	private static void toString(EmbeddableMappingType embeddableMappingType, Object value, WrapperOptions options, JsonAppender appender) {
 		toString( embeddableMappingType, options, appender, value, '{' );
 		appender.append( '}' );
@@ -298,10 +309,21 @@ public class JsonHelper {
 		if ( string == null ) {
 			return null;
 		}
+		return fromString( new EmbeddableJsonMapping( embeddableMappingType ), string, returnEmbeddable, options );
+	}
+
+	public static <X> X fromString(
+			EmbeddableJsonMapping jsonMapping,
+			String string,
+			boolean returnEmbeddable,
+			WrapperOptions options) throws SQLException {
+		if ( string == null ) {
+			return null;
+		}
 
-		final int jdbcValueCount = embeddableMappingType.getJdbcValueCount();
-		final Object[] values = new Object[jdbcValueCount + ( embeddableMappingType.isPolymorphic() ? 1 : 0 )];
-		final int end = fromString( embeddableMappingType, string, 0, string.length(), values, returnEmbeddable, options );
+		final EmbeddableMappingType embeddableMappingType = jsonMapping.embeddableMappingType;
+		final Object[] values = new Object[jsonMapping.selectables.length];
+		final int end = fromString( jsonMapping, string, 0, string.length(), values, returnEmbeddable, options );
 		assert string.substring( end ).isBlank();
 		if ( returnEmbeddable ) {
 			final StructAttributeValues attributeValues = StructHelper.getAttributeValues(
@@ -317,7 +339,7 @@ public class JsonHelper {
 	}
 
 	private static int fromString(
-			EmbeddableMappingType embeddableMappingType,
+			EmbeddableJsonMapping jsonMapping,
 			String string,
 			int begin,
 			int end,
@@ -329,6 +351,8 @@ public class JsonHelper {
 		int start = begin + 1;
 		State s = State.KEY_START;
 		int selectableIndex = -1;
+		// keys usually come in the order in which they are written
+		int expectedSelectableIndex = 0;
 		// The following parsing logic assumes JSON is well-formed,
 		// but for the sake of the Java compiler's flow analysis
 		// and hopefully also for a better understanding, contains throws for some syntax errors
@@ -351,12 +375,14 @@ public class JsonHelper {
 						case KEY_QUOTE:
 							s = State.KEY_END;
 							selectableIndex = getSelectableMapping(
-									embeddableMappingType,
+									jsonMapping,
 									string,
 									start,
 									i,
-									hasEscape
+									hasEscape,
+									expectedSelectableIndex
 							);
+							expectedSelectableIndex = selectableIndex + 1;
 							start = -1;
 							hasEscape = false;
 							break;
@@ -368,7 +394,7 @@ public class JsonHelper {
 						case VALUE_QUOTE:
 							s = State.VALUE_END;
 							values[selectableIndex] = fromString(
-									embeddableMappingType.getJdbcValueSelectable( selectableIndex ).getJdbcMapping(),
+									jsonMapping.selectables[selectableIndex].getJdbcMapping(),
 									string,
 									start,
 									i,
@@ -420,9 +446,7 @@ public class JsonHelper {
 							// In the value it's fine
 							break;
 						case VALUE_START:
-							final SelectableMapping selectable = embeddableMappingType.getJdbcValueSelectable(
-									selectableIndex
-							);
+							final SelectableMapping selectable = jsonMapping.selectables[selectableIndex];
 							if ( !( selectable.getJdbcMapping().getJdbcType() instanceof AggregateJdbcType ) ) {
 								throw new IllegalArgumentException(
 										String.format(
@@ -434,20 +458,24 @@ public class JsonHelper {
 								);
 							}
 							final AggregateJdbcType aggregateJdbcType = (AggregateJdbcType) selectable.getJdbcMapping().getJdbcType();
-							final EmbeddableMappingType subMappingType = aggregateJdbcType.getEmbeddableMappingType();
+							final EmbeddableJsonMapping subJsonMapping = jsonMapping.getAggregateMapping(
+									selectableIndex,
+									aggregateJdbcType.getEmbeddableMappingType()
+							);
 							// This encoding is only possible if the JDBC type is JSON again
 							assert aggregateJdbcType.getJdbcTypeCode() == SqlTypes.JSON
 									|| aggregateJdbcType.getDefaultSqlTypeCode() == SqlTypes.JSON;
-							final Object[] subValues = new Object[subMappingType.getJdbcValueCount()];
-							i = fromString( subMappingType, string, i, end, subValues, returnEmbeddable, options ) - 1;
+							final Object[] subValues = new Object[subJsonMapping.selectables.length];
+							i = fromString( subJsonMapping, string, i, end, subValues, returnEmbeddable, options ) - 1;
 							assert string.charAt( i ) == '}';
 							if ( returnEmbeddable ) {
+								final EmbeddableMappingType subMappingType = subJsonMapping.embeddableMappingType;
 								final StructAttributeValues attributeValues = StructHelper.getAttributeValues(
 										subMappingType,
 										subValues,
 										options
 								);
-								values[selectableIndex] = instantiate( embeddableMappingType, attributeValues, options.getSessionFactory() );
+								values[selectableIndex] = instantiate( subMappingType, attributeValues, options.getSessionFactory() );
 							}
 							else {
 								values[selectableIndex] = subValues;
@@ -467,9 +495,7 @@ public class JsonHelper {
 							// In the value it's fine
 							break;
 						case VALUE_START:
-							final SelectableMapping selectable = embeddableMappingType.getJdbcValueSelectable(
-									selectableIndex
-							);
+							final SelectableMapping selectable = jsonMapping.selectables[selectableIndex];
 							final JdbcMapping jdbcMapping = selectable.getJdbcMapping();
 							if ( !( jdbcMapping instanceof BasicPluralType<?, ?> ) ) {
 								throw new IllegalArgumentException(
@@ -524,7 +550,7 @@ public class JsonHelper {
 									string,
 									i,
 									values,
-									embeddableMappingType.getJdbcValueSelectable( selectableIndex ).getJdbcMapping(),
+									jsonMapping.selectables[selectableIndex].getJdbcMapping(),
 									selectableIndex,
 									returnEmbeddable,
 									options
@@ -974,21 +1000,26 @@ public class JsonHelper {
 	}
 
 	private static int getSelectableMapping(
-			EmbeddableMappingType embeddableMappingType,
+			EmbeddableJsonMapping jsonMapping,
 			String string,
 			int start,
 			int end,
-			boolean hasEscape) {
-		final String name = hasEscape
-				? unescape( string, start, end )
-				: string.substring( start, end );
-		final int selectableIndex = embeddableMappingType.getSelectableIndex( name );
+			boolean hasEscape,
+			int expectedSelectableIndex) {
+		final int selectableIndex;
+		if ( hasEscape ) {
+			final String name = unescape( string, start, end );
+			selectableIndex = jsonMapping.getSelectableIndex( name, 0, name.length(), expectedSelectableIndex );
+		}
+		else {
+			selectableIndex = jsonMapping.getSelectableIndex( string, start, end, expectedSelectableIndex );
+		}
 		if ( selectableIndex == -1 ) {
 			throw new IllegalArgumentException(
 					String.format(
 							"Could not find selectable [%s] in embeddable type [%s] for JSON processing.",
-							name,
-							embeddableMappingType.getMappedJavaType().getJavaTypeClass().getName()
+							hasEscape ? unescape( string, start, end ) : string.substring( start, end ),
+							jsonMapping.embeddableMappingType.getMappedJavaType().getJavaTypeClass().getName()
 					)
 			);
 		}
@@ -1169,6 +1200,80 @@ public class JsonHelper {
 		return sb.toString();
 	}
 
+	/**
+	 * The JDBC value selectables of an {@link EmbeddableMappingType}, resolved once and
+	 * reused for every JSON document of the embeddable, so that keys are matched without
+	 * creating a string for every key, and values are processed without navigating the
+	 * attribute mappings of the embeddable.
+	 */
+	public static final class EmbeddableJsonMapping {
+		private static final int MAX_SIZE_HINT = 8192;
+
+		private final EmbeddableMappingType embeddableMappingType;
+		private final SelectableMapping[] selectables;
+		private final String[] selectableNames;
+		private final EmbeddableJsonMapping[] aggregateMappings;
+		// only a hint for the initial size of the next document, so concurrent updates
+		// may be lost, but a single large document doesn't inflate every later buffer
+		private int averageLength = 16;
+
+		private int sizeHint() {
+			return Math.min( averageLength, MAX_SIZE_HINT );
+		}
+
+		/**
+		 * Moves the size hint a quarter of the way towards the length of the last
+		 * document, rounding up, so that it settles at the length of documents of
+		 * constant length.
+		 */
+		private void recordLength(int length) {
+			averageLength = ( 3 * averageLength + Math.min( length, MAX_SIZE_HINT ) + 3 ) / 4;
+		}
+
+		public EmbeddableJsonMapping(EmbeddableMappingType embeddableMappingType) {
+			this.embeddableMappingType = embeddableMappingType;
+			final int size = embeddableMappingType.getJdbcValueCount()
+					+ ( embeddableMappingType.isPolymorphic() ? 1 : 0 );
+			this.selectables = new SelectableMapping[size];
+			this.selectableNames = new String[size];
+			for ( int i = 0; i < size; i++ ) {
+				selectables[i] = embeddableMappingType.getJdbcValueSelectable( i );
+				selectableNames[i] = selectables[i] == null ? null : selectables[i].getSelectableName();
+			}
+			this.aggregateMappings = new EmbeddableJsonMapping[size];
+		}
+
+		public EmbeddableMappingType getEmbeddableMappingType() {
+			return embeddableMappingType;
+		}
+
+		private int getSelectableIndex(String string, int start, int end, int expectedIndex) {
+			if ( expectedIndex < selectableNames.length && nameMatches( expectedIndex, string, start, end ) ) {
+				return expectedIndex;
+			}
+			for ( int i = 0; i < selectableNames.length; i++ ) {
+				if ( nameMatches( i, string, start, end ) ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private boolean nameMatches(int index, String string, int start, int end) {
+			final String name = selectableNames[index];
+			return name != null && name.length() == end - start && string.startsWith( name, start );
+		}
+
+		private EmbeddableJsonMapping getAggregateMapping(int index, EmbeddableMappingType aggregateMappingType) {
+			EmbeddableJsonMapping aggregateMapping = aggregateMappings[index];
+			if ( aggregateMapping == null ) {
+				aggregateMapping = new EmbeddableJsonMapping( aggregateMappingType );
+				aggregateMappings[index] = aggregateMapping;
+			}
+			return aggregateMapping;
+		}
+	}
+
 	enum State {
 		KEY_START( "\"\\s" ),
 		KEY_QUOTE( "" ),
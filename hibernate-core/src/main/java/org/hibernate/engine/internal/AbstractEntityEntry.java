@@ -380,8 +380,12 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 				uninitializedProxy = false;
 			}
 			// we never have to check an uninitialized proxy
+			// collections don't prevent skipping the check if setting a different
+			// collection instance is tracked, since changes to the elements of a
+			// collection are detected when flushing the collection itself
 			return uninitializedProxy
-				|| !persister.hasCollections()
+				|| ( !persister.hasCollections()
+						|| persister.getBytecodeEnhancementMetadata().isCollectionReplacementTracked() )
 					&& !persister.hasMutableProperties()
 					&& !asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes()
 					&& asManagedEntity( entity ).$$_hibernate_useTracker();
@@ -269,6 +269,7 @@ public class BatchImpl implements Batch {
 				}
 
 				try {
+					jdbcSessionOwner.getJdbcConnectionAccess().beforeMutation();
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
 						final int[] rowCounts;
 						final EventManager eventManager = jdbcSessionOwner.getEventManager();
@@ -288,6 +289,7 @@ public class BatchImpl implements Batch {
 					}
 				}
 				catch (SQLException e) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().executionFailed( statement );
 					abortBatch( e );
 					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
 					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
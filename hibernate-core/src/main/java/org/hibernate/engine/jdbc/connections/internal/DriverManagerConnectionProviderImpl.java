@@ -17,6 +17,7 @@ import java.util.Properties;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -29,6 +30,7 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Database;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.SimpleDatabaseVersion;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolMetrics;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -45,6 +47,12 @@ import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_URL;
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
  * a very rudimentary connection pool.
+ * <p>
+ * At most {@value AvailableSettings#POOL_SIZE} connections are handed out at the same time. A thread
+ * requesting a connection beyond that limit waits for a connection to be returned, in the order the
+ * threads started waiting, for up to {@value #ACQUISITION_TIMEOUT} milliseconds, which by default
+ * means that it fails immediately. The current state of the pool is exposed as
+ * {@link ConnectionPoolMetrics}.
  *
  * @implNote Not intended for use in production systems!
  *
@@ -62,6 +70,8 @@ public class DriverManagerConnectionProviderImpl
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -91,6 +101,7 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 0 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -100,6 +111,7 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.initialSize( initialSize );
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
 		pooledConnectionBuilder.validator( this );
 		return pooledConnectionBuilder.build();
 	}
@@ -283,7 +295,8 @@ public class DriverManagerConnectionProviderImpl
 	@Override
 	public boolean isUnwrappableAs(Class<?> unwrapType) {
 		return ConnectionProvider.class.equals( unwrapType ) ||
-				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ||
+				ConnectionPoolMetrics.class.equals( unwrapType ) && state != null;
 	}
 
 	@Override
@@ -293,6 +306,9 @@ public class DriverManagerConnectionProviderImpl
 				DriverManagerConnectionProviderImpl.class.isAssignableFrom( unwrapType ) ) {
 			return (T) this;
 		}
+		else if ( ConnectionPoolMetrics.class.equals( unwrapType ) && state != null ) {
+			return (T) state.pool;
+		}
 		else {
 			throw new UnknownUnwrapTypeException( unwrapType );
 		}
@@ -351,16 +367,20 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
-	public static class PooledConnections {
+	public static class PooledConnections implements ConnectionPoolMetrics {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// a permit for each connection which may be obtained from the pool,
+		// handed out in the order in which threads started to wait for one
+		private final Semaphore permits;
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeout;
 
 		private volatile boolean primed;
 
@@ -374,6 +394,8 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeout = builder.acquisitionTimeout;
+			permits = new Semaphore( maxSize, true );
 			addConnections( builder.initialSize );
 		}
 
@@ -400,9 +422,14 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public void add(Connection conn) throws SQLException {
-			final Connection connection = releaseConnection( conn );
-			if ( connection != null ) {
-				availableConnections.offer( connection );
+			try {
+				final Connection connection = releaseConnection( conn );
+				if ( connection != null ) {
+					availableConnections.offer( connection );
+				}
+			}
+			finally {
+				permits.release();
 			}
 		}
 
@@ -424,22 +451,39 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
-						}
+			acquirePermit();
+			try {
+				Connection conn;
+				do {
+					conn = availableConnections.poll();
+					if ( conn == null ) {
+						// every pooled connection is in use, and since we hold
+						// a permit, there are fewer than maxSize of them
+						conn = connectionCreator.createConnection();
+						allConnections.add( conn );
 					}
+					conn = prepareConnection( conn );
+				} while ( conn == null );
+				return conn;
+			}
+			catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		private void acquirePermit() {
+			try {
+				if ( !permits.tryAcquire( acquisitionTimeout, TimeUnit.MILLISECONDS ) ) {
 					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+							"The internal connection pool has reached its maximum size and no connection is currently available"
+									+ ( acquisitionTimeout > 0 ? " after waiting " + acquisitionTimeout + "ms" : "" ) );
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -489,6 +533,26 @@ public class DriverManagerConnectionProviderImpl
 			return allConnections.size();
 		}
 
+		@Override
+		public int getActiveCount() {
+			return maxSize - permits.availablePermits();
+		}
+
+		@Override
+		public int getIdleCount() {
+			return availableConnections.size();
+		}
+
+		@Override
+		public int getPendingCount() {
+			return permits.getQueueLength();
+		}
+
+		@Override
+		public int getMaxSize() {
+			return maxSize;
+		}
+
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
 				final Connection connection = availableConnections.poll();
@@ -525,6 +589,7 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -546,6 +611,11 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
 			public Builder validator(ConnectionValidator connectionValidator) {
 				this.connectionValidator = connectionValidator;
 				return this;
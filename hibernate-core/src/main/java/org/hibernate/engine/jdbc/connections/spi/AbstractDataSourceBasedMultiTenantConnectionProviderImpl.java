@@ -20,6 +20,17 @@ public abstract class AbstractDataSourceBasedMultiTenantConnectionProviderImpl<T
 	protected abstract DataSource selectAnyDataSource();
 	protected abstract DataSource selectDataSource(T tenantIdentifier);
 
+	/**
+	 * The {@link DataSource} for read-only connections of the given tenant, by
+	 * default, the {@linkplain #selectDataSource(Object) same data source} used
+	 * for all other connections of the tenant.
+	 *
+	 * @since 7.0
+	 */
+	protected DataSource selectReadOnlyDataSource(T tenantIdentifier) {
+		return selectDataSource( tenantIdentifier );
+	}
+
 	@Override
 	public Connection getAnyConnection() throws SQLException {
 		return selectAnyDataSource().getConnection();
@@ -40,6 +51,16 @@ public abstract class AbstractDataSourceBasedMultiTenantConnectionProviderImpl<T
 		connection.close();
 	}
 
+	@Override
+	public Connection getReadOnlyConnection(T tenantIdentifier) throws SQLException {
+		return selectReadOnlyDataSource( tenantIdentifier ).getConnection();
+	}
+
+	@Override
+	public void releaseReadOnlyConnection(T tenantIdentifier, Connection connection) throws SQLException {
+		connection.close();
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return true;
@@ -15,6 +15,11 @@ import org.hibernate.service.UnknownUnwrapTypeException;
  * Basic support for {@link MultiTenantConnectionProvider} implementations using
  * individual {@link ConnectionProvider} instances per tenant behind the scenes.
  * <p>
+ * {@linkplain #getReadOnlyConnection(Object) Read-only connections} of a tenant are
+ * obtained from the {@link ConnectionProvider} returned by
+ * {@link #selectReadOnlyConnectionProvider(Object)}, which may manage a pool of
+ * connections to a read-only replica of the database of the tenant.
+ * <p>
  * This class is meant to be subclassed to implement application-specific
  * requirements.
  *
@@ -24,6 +29,17 @@ public abstract class AbstractMultiTenantConnectionProvider<T> implements MultiT
 	protected abstract ConnectionProvider getAnyConnectionProvider();
 	protected abstract ConnectionProvider selectConnectionProvider(T tenantIdentifier);
 
+	/**
+	 * The {@link ConnectionProvider} for read-only connections of the given tenant,
+	 * by default, the {@linkplain #selectConnectionProvider(Object) same provider}
+	 * used for all other connections of the tenant.
+	 *
+	 * @since 7.0
+	 */
+	protected ConnectionProvider selectReadOnlyConnectionProvider(T tenantIdentifier) {
+		return selectConnectionProvider( tenantIdentifier );
+	}
+
 	@Override
 	public Connection getAnyConnection() throws SQLException {
 		return getAnyConnectionProvider().getConnection();
@@ -44,6 +60,16 @@ public abstract class AbstractMultiTenantConnectionProvider<T> implements MultiT
 		selectConnectionProvider( tenantIdentifier ).closeConnection( connection );
 	}
 
+	@Override
+	public Connection getReadOnlyConnection(T tenantIdentifier) throws SQLException {
+		return selectReadOnlyConnectionProvider( tenantIdentifier ).getReadOnlyConnection();
+	}
+
+	@Override
+	public void releaseReadOnlyConnection(T tenantIdentifier, Connection connection) throws SQLException {
+		selectReadOnlyConnectionProvider( tenantIdentifier ).closeReadOnlyConnection( connection );
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return getAnyConnectionProvider().supportsAggressiveRelease();
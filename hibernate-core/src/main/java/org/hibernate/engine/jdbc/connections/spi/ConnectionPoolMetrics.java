@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Exposes the current state of a connection pool for monitoring.
+ * <p>
+ * A {@link ConnectionProvider} which manages a pool of connections
+ * may be {@linkplain ConnectionProvider#unwrap(Class) unwrapped}
+ * as this type.
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ConnectionPoolMetrics {
+	/**
+	 * The number of connections currently obtained from the pool.
+	 */
+	int getActiveCount();
+
+	/**
+	 * The number of connections currently held by the pool, but not
+	 * obtained from it.
+	 */
+	int getIdleCount();
+
+	/**
+	 * The number of threads currently waiting for a connection.
+	 */
+	int getPendingCount();
+
+	/**
+	 * The maximum number of connections which may be obtained from
+	 * the pool at the same time.
+	 */
+	int getMaxSize();
+}
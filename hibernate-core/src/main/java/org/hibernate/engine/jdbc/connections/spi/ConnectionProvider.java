@@ -8,6 +8,7 @@ package org.hibernate.engine.jdbc.connections.spi;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import org.hibernate.Incubating;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.connections.internal.DatabaseConnectionInfoImpl;
 import org.hibernate.service.Service;
@@ -54,6 +55,42 @@ public interface ConnectionProvider extends Service, Wrapped {
 	 */
 	void closeConnection(Connection connection) throws SQLException;
 
+	/**
+	 * Obtains a connection to a read-only replica of the database, for use by a
+	 * {@linkplain org.hibernate.Session#isDefaultReadOnly() read-only session} with
+	 * {@link org.hibernate.FlushMode#MANUAL}.
+	 *
+	 * @implSpec By default, a connection is obtained from {@link #getConnection()}.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 *
+	 * @see PrimaryReplicaConnectionProvider
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Connection getReadOnlyConnection() throws SQLException {
+		return getConnection();
+	}
+
+	/**
+	 * Release a connection obtained from {@link #getReadOnlyConnection()}.
+	 *
+	 * @param connection The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise releasing a connection.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void closeReadOnlyConnection(Connection connection) throws SQLException {
+		closeConnection( connection );
+	}
+
 	/**
 	 * Does this connection provider support aggressive release of JDBC connections and later
 	 * re-acquisition of those connections if needed?
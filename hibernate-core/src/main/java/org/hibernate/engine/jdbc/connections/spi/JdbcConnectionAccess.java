@@ -45,4 +45,18 @@ public interface JdbcConnectionAccess extends Serializable {
 	 * @see MultiTenantConnectionProvider#supportsAggressiveRelease()
 	 */
 	boolean supportsAggressiveRelease();
+
+	/**
+	 * Called right before a statement which modifies the database is executed on the
+	 * connection held by the session. Connections obtained afterward should reflect
+	 * the modification, and so should not come from a
+	 * {@linkplain ConnectionProvider#getReadOnlyConnection() read-only replica}.
+	 *
+	 * @throws org.hibernate.HibernateException if the connection held by the session
+	 * was obtained from a read-only replica
+	 *
+	 * @since 7.0
+	 */
+	default void beforeMutation() {
+	}
 }
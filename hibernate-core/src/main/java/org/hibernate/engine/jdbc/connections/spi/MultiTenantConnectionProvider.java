@@ -9,6 +9,7 @@ package org.hibernate.engine.jdbc.connections.spi;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import org.hibernate.Incubating;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.connections.internal.DatabaseConnectionInfoImpl;
 import org.hibernate.service.Service;
@@ -74,6 +75,43 @@ public interface MultiTenantConnectionProvider<T> extends Service, Wrapped {
 	 */
 	void releaseConnection(T tenantIdentifier, Connection connection) throws SQLException;
 
+	/**
+	 * Obtains a connection to a read-only replica of the database of the given tenant,
+	 * for use by a {@linkplain org.hibernate.Session#isDefaultReadOnly() read-only session}
+	 * with {@link org.hibernate.FlushMode#MANUAL}.
+	 *
+	 * @implSpec By default, a connection is obtained from {@link #getConnection(Object)}.
+	 *
+	 * @param tenantIdentifier The identifier of the tenant for which to get a connection
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Connection getReadOnlyConnection(T tenantIdentifier) throws SQLException {
+		return getConnection( tenantIdentifier );
+	}
+
+	/**
+	 * Release a connection obtained from {@link #getReadOnlyConnection(Object)}.
+	 *
+	 * @param connection The JDBC connection to release
+	 * @param tenantIdentifier The identifier of the tenant.
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise releasing a connection.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void releaseReadOnlyConnection(T tenantIdentifier, Connection connection) throws SQLException {
+		releaseConnection( tenantIdentifier, connection );
+	}
+
 	/**
 	 * Does this connection provider support aggressive release of JDBC connections and later
 	 * re-acquisition of those connections if needed?
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A {@link ConnectionProvider} which obtains {@linkplain #getReadOnlyConnection() read-only
+ * connections} from a {@code ConnectionProvider} for a read-only replica of the database,
+ * and all other connections from a {@code ConnectionProvider} for the primary database.
+ * <p>
+ * A session which is {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only}
+ * and has {@link org.hibernate.FlushMode#MANUAL} when it acquires a connection obtains it
+ * from the replica, unless it has already modified the primary database, and
+ * {@value org.hibernate.cfg.AvailableSettings#CONNECTION_READ_YOUR_WRITES} is enabled.
+ * Executing a statement which modifies the database through a connection to the replica
+ * fails.
+ * <p>
+ * Since a resource-local transaction acquires its connection when it begins, a session
+ * must be made read-only before it begins a transaction, unless
+ * {@value org.hibernate.cfg.AvailableSettings#DELAY_TRANSACTION_BEGIN} or
+ * {@value org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT}
+ * is enabled.
+ * <p>
+ * An instance may be passed as the value of
+ * {@value org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER}. Both given providers
+ * must already be configured, and are stopped when this provider is stopped.
+ *
+ * @see MultiTenantConnectionProvider#getReadOnlyConnection(Object)
+ *
+ * @since 7.0
+ */
+@Incubating
+public class PrimaryReplicaConnectionProvider implements ConnectionProvider, Stoppable {
+	private final ConnectionProvider primary;
+	private final ConnectionProvider replica;
+
+	public PrimaryReplicaConnectionProvider(ConnectionProvider primary, ConnectionProvider replica) {
+		this.primary = primary;
+		this.replica = replica;
+	}
+
+	public ConnectionProvider getPrimary() {
+		return primary;
+	}
+
+	public ConnectionProvider getReplica() {
+		return replica;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return primary.getConnection();
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		primary.closeConnection( connection );
+	}
+
+	@Override
+	public Connection getReadOnlyConnection() throws SQLException {
+		return replica.getReadOnlyConnection();
+	}
+
+	@Override
+	public void closeReadOnlyConnection(Connection connection) throws SQLException {
+		replica.closeReadOnlyConnection( connection );
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return primary.supportsAggressiveRelease() && replica.supportsAggressiveRelease();
+	}
+
+	@Override
+	public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
+		return primary.getDatabaseConnectionInfo( dialect );
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return unwrapType.isInstance( this ) || primary.isUnwrappableAs( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> unwrapType) {
+		return unwrapType.isInstance( this ) ? (T) this : primary.unwrap( unwrapType );
+	}
+
+	@Override
+	public void stop() {
+		try {
+			if ( primary instanceof Stoppable stoppable ) {
+				stoppable.stop();
+			}
+		}
+		finally {
+			if ( replica instanceof Stoppable stoppable ) {
+				stoppable.stop();
+			}
+		}
+	}
+}
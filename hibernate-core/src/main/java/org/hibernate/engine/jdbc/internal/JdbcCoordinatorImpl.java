@@ -37,6 +37,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -59,6 +60,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient final JdbcServices jdbcServices;
 
+	private transient final PreparedStatementCache statementCache;
+
 	private transient Batch currentBatch;
 
 	private transient long transactionTimeOutInstant = -1;
@@ -82,7 +85,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+		final int statementCacheSize = owner.getJdbcSessionContext().getStatementCacheSize();
+		this.statementCache = statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
+		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
+				owner.getJdbcSessionContext().getEventHandler(),
+				statementCache
+		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
@@ -106,6 +114,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.statementCache = null;
 	}
 
 	@Override
@@ -113,6 +122,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of idle prepared statements of the logical connection.
+	 *
+	 * @return the cache, or {@code null} if prepared statements are not cached
+	 */
+	PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
@@ -16,6 +16,7 @@ import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -47,6 +48,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : PreparedStatementCache.Key.forStatement( sql );
+			}
 		};
 	}
 
@@ -60,6 +66,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.forGeneratedKeys( sql, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -77,6 +88,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				//noinspection resource
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.forGeneratedKeys( sql, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -93,9 +109,23 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		public PreparedStatement prepareStatement() {
 			try {
-				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler jdbcEventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+
+				final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.take( cacheKey );
+					if ( cachedStatement != null ) {
+						jdbcEventHandler.jdbcPreparedStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+					jdbcEventHandler.jdbcPreparedStatementCacheMiss();
+				}
+
+				final PreparedStatement preparedStatement;
 				final EventManager eventManager = jdbcSessionOwner.getEventManager();
 				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -107,6 +137,9 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
 					jdbcEventHandler.jdbcPrepareStatementEnd();
 				}
+				if ( cacheKey != null ) {
+					statementCache.track( preparedStatement, cacheKey );
+				}
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -117,6 +150,14 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key of the statement in the statement cache of the logical connection,
+		 * or {@code null} if the statement may not be cached.
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
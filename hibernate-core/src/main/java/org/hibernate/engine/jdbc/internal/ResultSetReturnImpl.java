@@ -68,10 +68,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			return rs;
 		}
 		catch (SQLException e) {
+			executionFailed( statement );
 			throw sqlExceptionHelper.convert( e, "could not extract ResultSet", sql );
 		}
 	}
 
+	private void executionFailed(PreparedStatement statement) {
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().executionFailed( statement );
+	}
+
 	private EventManager getEventManager() {
 		return jdbcCoordinator.getJdbcSessionOwner().getEventManager();
 	}
@@ -88,6 +93,10 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		getEventHandler().jdbcExecuteStatementEnd();
 	}
 
+	private void beforeMutation() {
+		jdbcCoordinator.getJdbcSessionOwner().getJdbcConnectionAccess().beforeMutation();
+	}
+
 	private void jdbcExecuteStatementStart() {
 		getEventHandler().jdbcExecuteStatementStart();
 	}
@@ -145,6 +154,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			return rs;
 		}
 		catch (SQLException e) {
+			executionFailed( statement );
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 	}
@@ -183,6 +193,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public int executeUpdate(PreparedStatement statement, String sql) {
 		assert statement != null;
+		beforeMutation();
 		long executeStartNanos = beginSlowQueryLogging();
 		final EventManager eventManager = getEventManager();
 		final HibernateMonitoringEvent executionEvent =
@@ -192,6 +203,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
+			executionFailed( statement );
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 		finally {
@@ -204,6 +216,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		beforeMutation();
 		long executeStartNanos = beginSlowQueryLogging();
 		final EventManager eventManager = getEventManager();
 		final HibernateMonitoringEvent executionEvent =
@@ -19,6 +19,7 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -95,6 +96,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : PreparedStatementCache.Key.forStatement( sql );
+			}
 		};
 	}
 
@@ -114,6 +120,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.forGeneratedKeys( sql, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -125,6 +136,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.Key.forGeneratedKeys( sql, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -150,6 +166,11 @@ class StatementPreparerImpl implements StatementPreparer {
 							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
 							: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : PreparedStatementCache.Key.forQuery( sql, resultSetType );
+			}
 		}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( ps );
 		return ps;
@@ -170,9 +191,23 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
 				final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 				final JdbcEventHandler observer = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+
+				final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.take( cacheKey );
+					if ( cachedStatement != null ) {
+						observer.jdbcPreparedStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+					observer.jdbcPreparedStatementCacheMiss();
+				}
+
+				final PreparedStatement preparedStatement;
 				final EventManager eventManager = jdbcSessionOwner.getEventManager();
 				final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
 				try {
@@ -184,6 +219,9 @@ class StatementPreparerImpl implements StatementPreparer {
 					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
 					observer.jdbcPrepareStatementEnd();
 				}
+				if ( cacheKey != null ) {
+					statementCache.track( preparedStatement, cacheKey );
+				}
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -194,6 +232,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key of the statement in the statement cache of the logical connection,
+		 * or {@code null} if the statement may not be cached.
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
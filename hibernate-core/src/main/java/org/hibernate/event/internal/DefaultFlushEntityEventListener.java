@@ -39,6 +39,7 @@ import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
@@ -222,6 +223,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			else {
 				final Object entity = event.getEntity();
 				processIfSelfDirtinessTracker( entity, SelfDirtinessTracker::$$_hibernate_clearDirtyAttributes );
+				if ( isSelfDirtinessTracker( entity ) ) {
+					// the next flush might skip the dirty check and search
+					// for reachable collections in the loaded state instead
+					refreshLoadedCollections( event );
+				}
 				processIfManagedEntity( entity, DefaultFlushEntityEventListener::useTracker );
 				event.getFactory()
 						.getCustomEntityDirtinessStrategy()
@@ -234,6 +240,46 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 	}
 
+	/**
+	 * Update the loaded state with the collection instances currently referenced
+	 * by the entity, since no update will do this for us.
+	 */
+	private static void refreshLoadedCollections(FlushEntityEvent event) {
+		final EntityEntry entry = event.getEntityEntry();
+		final EntityPersister persister = entry.getPersister();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState != null && entry.getStatus() == Status.MANAGED && persister.hasCollections() ) {
+			final Object[] values = event.getPropertyValues();
+			final Type[] types = persister.getPropertyTypes();
+			for ( int i = 0; i < types.length; i++ ) {
+				final Object value = values[i];
+				if ( value != UNFETCHED_PROPERTY && value != loadedState[i] ) {
+					final Type type = types[i];
+					if ( type.isCollectionType() ) {
+						loadedState[i] = value;
+					}
+					else if ( containsCollection( type ) ) {
+						loadedState[i] = type.deepCopy( value, event.getFactory() );
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean containsCollection(Type type) {
+		if ( type.isCollectionType() ) {
+			return true;
+		}
+		else if ( type instanceof CompositeType ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( containsCollection( subtype ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private static void useTracker(final ManagedEntity entity) {
 		entity.$$_hibernate_setUseTracker( true );
 	}
@@ -683,7 +683,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
 						getEventListenerManager(),
 						fastSessionServices.connectionProvider,
-						this
+						this,
+						factory.getSessionFactoryOptions().isReadYourWritesEnabled()
 				);
 			}
 			else {
@@ -691,7 +692,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 						getTenantIdentifierValue(),
 						getEventListenerManager(),
 						fastSessionServices.multiTenantConnectionProvider,
-						this
+						this,
+						factory.getSessionFactoryOptions().isReadYourWritesEnabled()
 				);
 			}
 		}
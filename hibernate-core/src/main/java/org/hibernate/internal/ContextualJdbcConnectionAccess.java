@@ -9,7 +9,10 @@ package org.hibernate.internal;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -18,6 +21,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 
+import static java.util.Collections.newSetFromMap;
+
 /**
  * @author Steve Ebersole
  */
@@ -26,17 +31,23 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 	private final SessionEventListener listener;
 	private final MultiTenantConnectionProvider<Object> connectionProvider;
 	private final SharedSessionContractImplementor session;
+	private final boolean readYourWrites;
 
+	// the connections obtained from the read-only replica
+	private final Set<Connection> readOnlyConnections = newSetFromMap( new IdentityHashMap<>() );
+	private boolean mutated;
 
 	public ContextualJdbcConnectionAccess(
 			Object tenantIdentifier,
 			SessionEventListener listener,
 			MultiTenantConnectionProvider<Object> connectionProvider,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session,
+			boolean readYourWrites) {
 		this.tenantIdentifier = tenantIdentifier;
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
 		this.session = session;
+		this.readYourWrites = readYourWrites;
 	}
 
 	@Override
@@ -49,6 +60,11 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 		final HibernateMonitoringEvent jdbcConnectionAcquisitionEvent = eventManager.beginJdbcConnectionAcquisitionEvent();
 		try {
 			listener.jdbcConnectionAcquisitionStart();
+			if ( useReadOnlyConnection() ) {
+				final Connection connection = connectionProvider.getReadOnlyConnection( tenantIdentifier );
+				readOnlyConnections.add( connection );
+				return connection;
+			}
 			return connectionProvider.getConnection( tenantIdentifier );
 		}
 		finally {
@@ -71,7 +87,12 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 		final HibernateMonitoringEvent jdbcConnectionReleaseEvent = eventManager.beginJdbcConnectionReleaseEvent();
 		try {
 			listener.jdbcConnectionReleaseStart();
-			connectionProvider.releaseConnection( tenantIdentifier, connection );
+			if ( readOnlyConnections.remove( connection ) ) {
+				connectionProvider.releaseReadOnlyConnection( tenantIdentifier, connection );
+			}
+			else {
+				connectionProvider.releaseConnection( tenantIdentifier, connection );
+			}
 		}
 		finally {
 			eventManager.completeJdbcConnectionReleaseEvent( jdbcConnectionReleaseEvent, session, tenantIdentifier );
@@ -83,4 +104,23 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
 	}
+
+	/**
+	 * Only a session which neither flushes automatically nor at the end of a transaction
+	 * uses the read-only replica, and only until it modified the primary database, if it
+	 * should read its own writes.
+	 */
+	private boolean useReadOnlyConnection() {
+		return session.isDefaultReadOnly()
+			&& session.getHibernateFlushMode() == FlushMode.MANUAL
+			&& !( readYourWrites && mutated );
+	}
+
+	@Override
+	public void beforeMutation() {
+		if ( !readOnlyConnections.isEmpty() ) {
+			throw new HibernateException( "Cannot modify the database through a connection to a read-only replica" );
+		}
+		mutated = true;
+	}
 }
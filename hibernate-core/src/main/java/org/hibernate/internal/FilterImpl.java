@@ -178,6 +178,36 @@ public class FilterImpl implements Filter, Serializable {
 		return definition.getParameterResolver(name);
 	}
 
+	/**
+	 * Get the value of the named parameter, either the
+	 * {@linkplain #getParameter(String) argument} or the
+	 * value provided by its {@linkplain #getParameterResolver(String) resolver}.
+	 *
+	 * @param name The name of the parameter for which to return the value.
+	 * @return The value of the named parameter.
+	 */
+	public Object resolveParameterValue(String name) {
+		final Object value = getParameter( name );
+		if ( value != null ) {
+			return value;
+		}
+		final Supplier<?> resolver = getParameterResolver( name );
+		return resolver == null ? null : resolver.get();
+	}
+
+	/**
+	 * Whether the value of any parameter of this filter is provided by its
+	 * {@linkplain #getParameterResolver(String) resolver}.
+	 */
+	public boolean hasResolvedParameters() {
+		for ( final String parameterName : definition.getParameterNames() ) {
+			if ( !hasArgument( parameterName ) && hasResolver( parameterName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Perform validation of the filter state.  This is used to verify the
 	 * state of the filter after its enablement and before its use.
@@ -8,7 +8,9 @@ package org.hibernate.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
@@ -18,15 +20,40 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A parameter of a {@linkplain org.hibernate.Filter filter} restriction.
+ * <p>
+ * When created for a named filter parameter, the value is resolved from the
+ * filter enabled in the session when the parameter is bound, so that a
+ * translated query can be reused with different filter parameter values.
+ *
  * @author Nathan Xu
  */
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int valueIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * @param jdbcParameterValue The value at the time of translation, used if the filter is not enabled anymore
+	 * @param valueIndex The index of the element for multi-valued filter parameters, or {@code -1}
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int valueIndex) {
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.valueIndex = valueIndex;
 	}
 
 	@Override
@@ -38,13 +65,40 @@ public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( resolveValue( executionContext.getSession() ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object resolveValue(SharedSessionContractImplementor session) {
+		if ( filterName != null ) {
+			final FilterImpl filter = (FilterImpl) session.getLoadQueryInfluencers().getEnabledFilter( filterName );
+			if ( filter != null ) {
+				final Object value = filter.resolveParameterValue( parameterName );
+				if ( valueIndex < 0 ) {
+					return value;
+				}
+				else if ( value instanceof List<?> ) {
+					final List<?> values = (List<?>) value;
+					if ( valueIndex < values.size() ) {
+						return values.get( valueIndex );
+					}
+				}
+				else if ( value instanceof Iterable<?> ) {
+					int index = 0;
+					for ( Object element : (Iterable<?>) value ) {
+						if ( index++ == valueIndex ) {
+							return element;
+						}
+					}
+				}
+			}
+		}
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -63,6 +63,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return settings().getJpaCompliance();
@@ -88,6 +93,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public boolean isDelayTransactionBeginEnabled() {
+		return settings().isDelayTransactionBeginEnabled();
+	}
+
 	@Override
 	public StatementInspector getStatementInspector() {
 		return statementInspector;
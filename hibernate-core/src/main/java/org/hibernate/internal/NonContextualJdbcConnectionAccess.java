@@ -9,8 +9,12 @@ package org.hibernate.internal;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.Set;
 
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -18,6 +22,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 
+import static java.util.Collections.newSetFromMap;
+
 /**
  * @author Steve Ebersole
  */
@@ -25,16 +31,23 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 	private final SessionEventListener listener;
 	private final ConnectionProvider connectionProvider;
 	private final SharedSessionContractImplementor session;
+	private final boolean readYourWrites;
+
+	// the connections obtained from the read-only replica
+	private final Set<Connection> readOnlyConnections = newSetFromMap( new IdentityHashMap<>() );
+	private boolean mutated;
 
 	public NonContextualJdbcConnectionAccess(
 			SessionEventListener listener,
 			ConnectionProvider connectionProvider,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session,
+			boolean readYourWrites) {
 		Objects.requireNonNull( listener );
 		Objects.requireNonNull( connectionProvider );
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
 		this.session = session;
+		this.readYourWrites = readYourWrites;
 	}
 
 	@Override
@@ -43,6 +56,11 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 		final HibernateMonitoringEvent jdbcConnectionAcquisitionEvent = eventManager.beginJdbcConnectionAcquisitionEvent();
 		try {
 			listener.jdbcConnectionAcquisitionStart();
+			if ( useReadOnlyConnection() ) {
+				final Connection connection = connectionProvider.getReadOnlyConnection();
+				readOnlyConnections.add( connection );
+				return connection;
+			}
 			return connectionProvider.getConnection();
 		}
 		finally {
@@ -61,7 +79,12 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 		final HibernateMonitoringEvent jdbcConnectionReleaseEvent = eventManager.beginJdbcConnectionReleaseEvent();
 		try {
 			listener.jdbcConnectionReleaseStart();
-			connectionProvider.closeConnection( connection );
+			if ( readOnlyConnections.remove( connection ) ) {
+				connectionProvider.closeReadOnlyConnection( connection );
+			}
+			else {
+				connectionProvider.closeConnection( connection );
+			}
 		}
 		finally {
 			eventManager.completeJdbcConnectionReleaseEvent( jdbcConnectionReleaseEvent, session, null );
@@ -73,4 +96,23 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
 	}
+
+	/**
+	 * Only a session which neither flushes automatically nor at the end of a transaction
+	 * uses the read-only replica, and only until it modified the primary database, if it
+	 * should read its own writes.
+	 */
+	private boolean useReadOnlyConnection() {
+		return session.isDefaultReadOnly()
+			&& session.getHibernateFlushMode() == FlushMode.MANUAL
+			&& !( readYourWrites && mutated );
+	}
+
+	@Override
+	public void beforeMutation() {
+		if ( !readOnlyConnections.isEmpty() ) {
+			throw new HibernateException( "Cannot modify the database through a connection to a read-only replica" );
+		}
+		mutated = true;
+	}
 }
@@ -1777,7 +1777,8 @@ public class SessionImpl
 
 	@Override
 	public boolean isDefaultReadOnly() {
-		return persistenceContext.isDefaultReadOnly();
+		// a connection may be acquired while the session is still being constructed
+		return persistenceContext != null && persistenceContext.isDefaultReadOnly();
 	}
 
 	@Override
@@ -35,6 +35,8 @@ public class Index implements Exportable, Serializable {
 	private Identifier name;
 	private Table table;
 	private boolean unique;
+	private String type;
+	private String options;
 	private final java.util.List<Selectable> selectables = new ArrayList<>();
 	private final java.util.Map<Selectable, String> selectableOrderMap = new HashMap<>();
 
@@ -54,6 +56,35 @@ public class Index implements Exportable, Serializable {
 		return unique;
 	}
 
+	/**
+	 * The type of index, or access method, for example {@code hnsw} on
+	 * PostgreSQL, or {@code null} for the default type of index.
+	 *
+	 * @since 7.0
+	 */
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	/**
+	 * A SQL fragment appended to the DDL statement which creates the index.
+	 *
+	 * @see jakarta.persistence.Index#options()
+	 *
+	 * @since 7.0
+	 */
+	public String getOptions() {
+		return options;
+	}
+
+	public void setOptions(String options) {
+		this.options = options;
+	}
+
 	public int getColumnSpan() {
 		return selectables.size();
 	}
@@ -84,7 +84,7 @@ public class EmbeddableRepresentationStrategyPojo implements EmbeddableRepresent
 			propertyAccesses[i] = buildPropertyAccess( property, embeddableClass, customInstantiator == null );
 			attributeNameToPositionMap.put( property.getName(), i );
 
-			if ( !property.isBasicPropertyAccessor() ) {
+			if ( !isBuiltInPropertyAccessor( property ) ) {
 				foundCustomAccessor = true;
 			}
 		}
@@ -227,6 +227,22 @@ public class EmbeddableRepresentationStrategyPojo implements EmbeddableRepresent
 		);
 	}
 
+	/**
+	 * Whether the property is accessed using one of the built-in strategies
+	 * which can be handled by a {@link ReflectionOptimizer}.
+	 */
+	private static boolean isBuiltInPropertyAccessor(Property property) {
+		final String propertyAccessorName = property.getPropertyAccessorName();
+		if ( propertyAccessorName == null ) {
+			return true;
+		}
+		final BuiltInPropertyAccessStrategies strategy = BuiltInPropertyAccessStrategies.interpret( propertyAccessorName );
+		return strategy == BuiltInPropertyAccessStrategies.BASIC
+				|| strategy == BuiltInPropertyAccessStrategies.FIELD
+				|| strategy == BuiltInPropertyAccessStrategies.MIXED
+				|| strategy == BuiltInPropertyAccessStrategies.EMBEDDED;
+	}
+
 	private static ReflectionOptimizer buildReflectionOptimizer(
 			Component bootDescriptor,
 			boolean hasCustomAccessors,
@@ -16,8 +16,13 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
@@ -25,6 +30,7 @@ import org.hibernate.proxy.ProxyConfiguration;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -36,6 +42,8 @@ import net.bytebuddy.pool.TypePool;
 
 public class ByteBuddyProxyHelper implements Serializable {
 
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ByteBuddyProxyHelper.class );
+
 	private static final String PROXY_NAMING_SUFFIX = "HibernateProxy";
 	private static final TypeDescription OBJECT = TypeDescription.ForLoadedType.of(Object.class);
 
@@ -49,6 +57,13 @@ public class ByteBuddyProxyHelper implements Serializable {
 	public Class buildProxy(
 			final Class<?> persistentClass,
 			final Class<?>[] interfaces) {
+		if ( interfaces.length == 1 && interfaces[0] == HibernateProxy.class ) {
+			final Class<?> pregeneratedProxy = loadPregeneratedProxy( persistentClass );
+			if ( pregeneratedProxy != null ) {
+				return pregeneratedProxy;
+			}
+		}
+
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
@@ -59,6 +74,45 @@ public class ByteBuddyProxyHelper implements Serializable {
 				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
 	}
 
+	/**
+	 * Locates the proxy class of the given entity class, if it was generated at build time by the enhancer.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateProxy(String, byte[])
+	 */
+	private static Class<?> loadPregeneratedProxy(Class<?> persistentClass) {
+		final ClassLoader classLoader = persistentClass.getClassLoader();
+		if ( classLoader == null ) {
+			return null;
+		}
+
+		final String proxyClassName = persistentClass.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX;
+		final Class<?> proxyClass;
+		try {
+			proxyClass = classLoader.loadClass( proxyClassName );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass ) ) {
+			LOG.debugf( "Ignoring class [%s]: it is not a proxy of [%s]", proxyClassName, persistentClass.getName() );
+			return null;
+		}
+
+		final EnhancementInfo info = proxyClass.getAnnotation( EnhancementInfo.class );
+		if ( info == null || !Version.getVersionString().equals( info.version() ) ) {
+			LOG.debugf(
+					"Ignoring pre-generated proxy [%s]: it was generated by a different version of Hibernate",
+					proxyClassName
+			);
+			return null;
+		}
+
+		return proxyClass;
+	}
+
 	/**
 	 * @deprecated Use {@link #buildUnloadedProxy(TypePool, TypeDefinition, Collection)} instead.
 	 */
@@ -76,12 +130,48 @@ public class ByteBuddyProxyHelper implements Serializable {
 		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
 	}
 
+	/**
+	 * Builds the proxy class of an entity class at build time, using a fixed name
+	 * so that it can be located at runtime instead of being generated.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateProxy(String, byte[])
+	 */
+	public DynamicType.Unloaded<?> buildUnloadedPregeneratedProxy(TypePool typePool, TypeDefinition persistentClass) {
+		final AnnotationDescription enhancementInfo = AnnotationDescription.Builder.ofType( EnhancementInfo.class )
+				.define( "version", Version.getVersionString() )
+				.build();
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder(
+				persistentClass,
+				new TypeList.Generic.ForLoadedTypes( HibernateProxy.class ),
+				new NamingStrategy.Suffixing(
+						EnhancerConstants.PROXY_CLASS_NAME_SUFFIX.substring( 1 ),
+						new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() )
+				)
+		);
+		return byteBuddyState.make(
+				typePool,
+				byteBuddy -> proxyBuilder.apply( byteBuddy ).annotateType( enhancementInfo )
+		);
+	}
+
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
+		return proxyBuilder(
+				persistentClass,
+				interfaces,
+				new NamingStrategy.SuffixingRandom(
+						PROXY_NAMING_SUFFIX,
+						new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() )
+				)
+		);
+	}
+
+	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
+			Collection<? extends TypeDefinition> interfaces, NamingStrategy namingStrategy) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
 		return byteBuddy -> helpers.appendIgnoreAlsoAtEnd( byteBuddy
 				.ignore( helpers.getGroovyGetMetaClassFilter() )
-				.with( new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) ) )
+				.with( namingStrategy )
 				.subclass( interfaces.size() == 1 ? persistentClass : OBJECT, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
 				.implement( interfaces )
 				.method( helpers.getVirtualNotFinalizerFilter() )
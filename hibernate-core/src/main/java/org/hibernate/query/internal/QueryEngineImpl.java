@@ -40,6 +40,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static java.util.Comparator.comparingInt;
@@ -112,6 +118,8 @@ public class QueryEngineImpl implements QueryEngine {
 	private final HqlTranslator hqlTranslator;
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
+	private final Executor polymorphicQueryExecutor;
+	private final boolean ownsPolymorphicQueryExecutor;
 
 	private QueryEngineImpl(
 			SessionFactoryImplementor sessionFactory,
@@ -138,6 +146,35 @@ public class QueryEngineImpl implements QueryEngine {
 				sessionFactoryOptions.getCriteriaValueHandlingMode(),
 				() -> sessionFactory
 		);
+		final Executor executor = sessionFactoryOptions.getPolymorphicQueryExecutor();
+		this.ownsPolymorphicQueryExecutor = executor == null;
+		this.polymorphicQueryExecutor = executor == null
+				? createPolymorphicQueryExecutor( sessionFactoryOptions.getPolymorphicQueryParallelism() )
+				: executor;
+	}
+
+	/**
+	 * The thread executing a polymorphic query executes some of its queries itself,
+	 * so the pool has one thread less than the parallelism, and rejects any task
+	 * when all threads are busy instead of queueing it.
+	 */
+	private static ExecutorService createPolymorphicQueryExecutor(int parallelism) {
+		if ( parallelism <= 1 ) {
+			return null;
+		}
+		final AtomicInteger threadCount = new AtomicInteger();
+		return new ThreadPoolExecutor(
+				0,
+				parallelism - 1,
+				60L,
+				TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "Hibernate polymorphic query " + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
 	}
 
 	private static HqlTranslator resolveHqlTranslator(
@@ -255,8 +292,17 @@ public class QueryEngineImpl implements QueryEngine {
 		return sqmFunctionRegistry;
 	}
 
+	@Override
+	public Executor getPolymorphicQueryExecutor() {
+		return polymorphicQueryExecutor;
+	}
+
 	@Override
 	public void close() {
+		if ( ownsPolymorphicQueryExecutor && polymorphicQueryExecutor != null ) {
+			( (ExecutorService) polymorphicQueryExecutor ).shutdownNow();
+		}
+
 		if ( namedObjectRepository != null ) {
 			namedObjectRepository.close();
 		}
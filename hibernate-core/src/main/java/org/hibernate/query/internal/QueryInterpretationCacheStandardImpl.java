@@ -91,12 +91,24 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
-		return null;
+		final NonSelectQueryPlan cached = (NonSelectQueryPlan) queryPlanCache.get( key );
+		if ( cached != null ) {
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+		}
+		return cached;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		queryPlanCache.put( key.prepareForStore(), plan );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 	}
 
 	@Override
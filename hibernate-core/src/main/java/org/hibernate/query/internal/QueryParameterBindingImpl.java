@@ -66,6 +66,27 @@ public class QueryParameterBindingImpl<T> implements QueryParameterBinding<T>, J
 		this.bindType = bindType;
 	}
 
+	private QueryParameterBindingImpl(QueryParameterBindingImpl<T> original) {
+		this.queryParameter = original.queryParameter;
+		this.sessionFactory = original.sessionFactory;
+		this.isBound = original.isBound;
+		this.isMultiValued = original.isMultiValued;
+		this.bindType = original.bindType;
+		this.type = original.type;
+		this.explicitTemporalPrecision = original.explicitTemporalPrecision;
+		this.bindValue = original.bindValue;
+		this.bindValues = original.bindValues;
+	}
+
+	/**
+	 * A copy of this binding, which may be used by another thread, since the
+	 * translation of a query {@linkplain #setType resolves} the type of the
+	 * bindings.
+	 */
+	public QueryParameterBindingImpl<T> copy() {
+		return new QueryParameterBindingImpl<>( this );
+	}
+
 	@Override
 	public BindableType<? super T> getBindType() {
 		return bindType;
@@ -6,6 +6,8 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.Incubating;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.query.hql.HqlTranslator;
@@ -50,6 +52,19 @@ public interface QueryEngine {
 
 	SqmTranslatorFactory getSqmTranslatorFactory();
 
+	/**
+	 * The executor which executes the queries of a polymorphic query which is split
+	 * into one query per entity type concurrently, or {@code null} if the queries are
+	 * always executed one after the other.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#POLYMORPHIC_QUERY_PARALLELISM
+	 *
+	 * @since 7.0
+	 */
+	default Executor getPolymorphicQueryExecutor() {
+		return null;
+	}
+
 	default <R> HqlInterpretation<R> interpretHql(String hql, Class<R> resultType) {
 		return getInterpretationCache().resolveHqlInterpretation( hql, resultType, getHqlTranslator() );
 	}
@@ -110,6 +110,9 @@ public class SelfRenderingSqmAggregateFunction<T> extends SelfRenderingSqmFuncti
 				i = 2;
 			}
 		}
+		else {
+			arguments.get( 0 ).appendHqlString( sb );
+		}
 		for ( ; i < arguments.size(); i++ ) {
 			sb.append(", ");
 			arguments.get( i ).appendHqlString( sb );
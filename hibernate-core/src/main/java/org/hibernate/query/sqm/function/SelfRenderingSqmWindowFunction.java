@@ -130,6 +130,9 @@ public class SelfRenderingSqmWindowFunction<T> extends SelfRenderingSqmFunction<
 				i = 2;
 			}
 		}
+		else {
+			arguments.get( 0 ).appendHqlString( sb );
+		}
 		for ( ; i < arguments.size(); i++ ) {
 			sb.append(", ");
 			arguments.get( i ).appendHqlString( sb );
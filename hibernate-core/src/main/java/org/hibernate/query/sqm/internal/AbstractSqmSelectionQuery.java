@@ -17,7 +17,6 @@ import org.hibernate.query.Page;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
-import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.named.NamedQueryMemento;
@@ -28,8 +27,8 @@ import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
-import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey.InterpretationsKeySource;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
@@ -55,8 +54,10 @@ import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NE
 import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createKeyedInterpretationsKey;
 import static org.hibernate.query.sqm.internal.SqmUtil.isHqlTuple;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
+import static org.hibernate.query.sqm.internal.SqmUtil.selectsBasicValuesOnly;
 import static org.hibernate.query.sqm.internal.SqmUtil.sortSpecification;
 import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
 
@@ -158,19 +159,40 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 		return this;
 	}
 
-	private SqmSelectStatement<KeyedResult<R>> paginateQuery(
-			List<Order<? super R>> keyDefinition, List<Comparable<?>> keyValues) {
+	private KeyedSelectQueryPlan<R> resolveKeyedQueryPlan(List<Order<? super R>> keyDefinition, boolean restricted) {
+		final QueryInterpretationCache.Key cacheKey = this instanceof InterpretationsKeySource
+				? createKeyedInterpretationsKey( (InterpretationsKeySource) this, keyDefinition, restricted )
+				: null;
+		if ( cacheKey != null ) {
+			return (KeyedSelectQueryPlan<R>) getSessionFactory().getQueryEngine().getInterpretationCache()
+					.resolveSelectQueryPlan( cacheKey, () -> buildKeyedQueryPlan( keyDefinition, restricted ) );
+		}
+		else {
+			return buildKeyedQueryPlan( keyDefinition, restricted );
+		}
+	}
+
+	private KeyedSelectQueryPlan<R> buildKeyedQueryPlan(List<Order<? super R>> keyDefinition, boolean restricted) {
 		@SuppressWarnings("unchecked")
 		final SqmSelectStatement<KeyedResult<R>> sqm =
 				(SqmSelectStatement<KeyedResult<R>>)
 						getSqmSelectStatement().copy( noParamCopyContext() );
-		final NodeBuilder builder = sqm.nodeBuilder();
-		//TODO: find a better way handle parameters
-		builder.setCriteriaValueHandlingMode(ValueHandlingMode.INLINE);
-		return paginate( keyDefinition, keyValues, sqm, builder );
+		paginate( keyDefinition, restricted, sqm, sqm.nodeBuilder() );
+		final DomainParameterXref domainParameterXref = DomainParameterXref.from( sqm, getDomainParameterXref() );
+		return new KeyedSelectQueryPlan<>(
+				new ConcreteSqmSelectQueryPlan<>(
+						sqm,
+						getQueryString(),
+						domainParameterXref,
+						null,
+						null,
+						getQueryOptions()
+				),
+				restricted ? keyDefinition.size() : 0,
+				domainParameterXref
+		);
 	}
 
-
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> keyedPage) {
 		if ( keyedPage == null ) {
@@ -188,10 +210,9 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 			setFirstResult( page.getFirstResult() );
 		}
 
-//		getQueryOptions().setQueryPlanCachingEnabled( false );
 		final List<KeyedResult<R>> results =
-				buildConcreteQueryPlan( paginateQuery( appliedKeyDefinition, key ), getQueryOptions() )
-						.performList(this);
+				resolveKeyedQueryPlan( appliedKeyDefinition, key != null )
+						.performList( this, key );
 
 		return new KeyedResultList<>(
 				collectResults( results, page.getSize(), keyedPage.getKeyInterpretation() ),
@@ -249,7 +270,10 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 		for ( int i = 0, length = concreteSqmStatements.length; i < length; i++ ) {
 			aggregatedQueryPlans[i] = buildConcreteQueryPlan( concreteSqmStatements[i] );
 		}
-		return new AggregatedSelectQueryPlanImpl<>( aggregatedQueryPlans );
+		return new AggregatedSelectQueryPlanImpl<>(
+				aggregatedQueryPlans,
+				selectsBasicValuesOnly( concreteSqmStatements[0] )
+		);
 	}
 
 	protected SelectQueryPlan<R> buildConcreteQueryPlan(SqmSelectStatement<R> concreteSqmStatement) {
@@ -276,10 +300,6 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 		);
 	}
 
-	private <T> SelectQueryPlan<T> buildConcreteQueryPlan(SqmSelectStatement<T> sqmStatement, QueryOptions options) {
-		return buildConcreteQueryPlan( sqmStatement, null, null, options );
-	}
-
 	protected void applyOptions(NamedSqmQueryMemento<?> memento) {
 		applyOptions( (NamedQueryMemento<?>) memento );
 
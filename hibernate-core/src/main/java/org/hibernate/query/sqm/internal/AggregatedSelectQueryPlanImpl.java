@@ -9,11 +9,23 @@ package org.hibernate.query.sqm.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.EmptyScrollableResults;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DelegatingQueryOptions;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.Limit;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.sql.results.spi.ResultsConsumer;
@@ -23,9 +35,21 @@ import org.hibernate.sql.results.spi.ResultsConsumer;
  */
 public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 	private final SelectQueryPlan<R>[] aggregatedQueryPlans;
+	private final boolean parallelizable;
 
 	public AggregatedSelectQueryPlanImpl(SelectQueryPlan<R>[] aggregatedQueryPlans) {
+		this( aggregatedQueryPlans, false );
+	}
+
+	/**
+	 * @param parallelizable whether the results of the queries never refer to an entity
+	 * instance, so that the queries may be executed on separate connections
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#POLYMORPHIC_QUERY_PARALLELISM
+	 */
+	public AggregatedSelectQueryPlanImpl(SelectQueryPlan<R>[] aggregatedQueryPlans, boolean parallelizable) {
 		this.aggregatedQueryPlans = aggregatedQueryPlans;
+		this.parallelizable = parallelizable;
 	}
 
 	@Override
@@ -43,8 +67,15 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		int elementsToSkip = effectiveLimit.getFirstRowJpa();
 		final List<R> overallResults = new ArrayList<>();
 
-		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
-			final List<R> list = aggregatedQueryPlan.performList( executionContext );
+		final DomainQueryExecutionContext queryExecutionContext = withoutFirstRow( executionContext, effectiveLimit );
+		final int parallelism = determineParallelism( executionContext );
+		final List<List<R>> results = parallelism > 1
+				? performListInParallel( queryExecutionContext, parallelism )
+				: null;
+		for ( int planIndex = 0; planIndex < aggregatedQueryPlans.length; planIndex++ ) {
+			final List<R> list = results == null
+					? aggregatedQueryPlans[planIndex].performList( queryExecutionContext )
+					: results.get( planIndex );
 			final int size = list.size();
 			if ( size <= elementsToSkip ) {
 				// More elements to skip than the collection size
@@ -62,7 +93,7 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 			}
 			else if ( elementsToSkip > 0 ) {
 				// We can skip a part of this result list
-				for ( int i = availableElements; i < size; i++ ) {
+				for ( int i = elementsToSkip; i < size; i++ ) {
 					overallResults.add( list.get( i ) );
 				}
 				elementsToSkip = 0;
@@ -75,6 +106,174 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		return overallResults;
 	}
 
+	/**
+	 * The rows to skip are only known once the results of the queries are merged,
+	 * so each query returns all rows up to the last requested row.
+	 */
+	private static DomainQueryExecutionContext withoutFirstRow(
+			DomainQueryExecutionContext executionContext,
+			Limit limit) {
+		if ( limit.getFirstRowJpa() == 0 ) {
+			return executionContext;
+		}
+		final Integer maxRows = limit.getMaxRows() == null
+				? null
+				: (int) Math.min( (long) limit.getFirstRowJpa() + limit.getMaxRows(), Integer.MAX_VALUE );
+		final Limit queryLimit = new Limit( null, maxRows );
+		final QueryOptions queryOptions = new DelegatingQueryOptions( executionContext.getQueryOptions() ) {
+			@Override
+			public Limit getLimit() {
+				return queryLimit;
+			}
+
+			@Override
+			public Integer getFirstRow() {
+				return null;
+			}
+
+			@Override
+			public Integer getMaxRows() {
+				return maxRows;
+			}
+
+			@Override
+			public Limit getEffectiveLimit() {
+				return queryLimit;
+			}
+
+			@Override
+			public boolean hasLimit() {
+				return maxRows != null;
+			}
+		};
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryOptions getQueryOptions() {
+				return queryOptions;
+			}
+		};
+	}
+
+	private int determineParallelism(DomainQueryExecutionContext executionContext) {
+		if ( !parallelizable ) {
+			return 1;
+		}
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		// the other connections would neither see the changes made in the transaction
+		// nor apply the filters enabled in the session
+		if ( session.isTransactionInProgress() || session.getLoadQueryInfluencers().hasEnabledFilters() ) {
+			return 1;
+		}
+		if ( session.getFactory().getQueryEngine().getPolymorphicQueryExecutor() == null ) {
+			return 1;
+		}
+		return Math.min(
+				session.getFactory().getSessionFactoryOptions().getPolymorphicQueryParallelism(),
+				aggregatedQueryPlans.length
+		);
+	}
+
+	/**
+	 * Executes the queries in up to {@code parallelism - 1} tasks of the executor of
+	 * the session factory, each of which uses a stateless session of its own and a
+	 * copy of the parameter bindings. The current thread executes the queries which
+	 * no task has started yet in the session of the query, so that all queries are
+	 * executed even when the executor rejects the tasks.
+	 */
+	private List<List<R>> performListInParallel(DomainQueryExecutionContext executionContext, int parallelism) {
+		final int planCount = aggregatedQueryPlans.length;
+		final List<CompletableFuture<List<R>>> futures = new ArrayList<>( planCount );
+		for ( int i = 0; i < planCount; i++ ) {
+			futures.add( new CompletableFuture<>() );
+		}
+		final AtomicInteger nextPlan = new AtomicInteger();
+		final Executor executor = executionContext.getSession().getFactory().getQueryEngine().getPolymorphicQueryExecutor();
+		for ( int i = 1; i < parallelism; i++ ) {
+			final DomainQueryExecutionContext workerExecutionContext = withCopiedBindings( executionContext );
+			try {
+				executor.execute( () -> performListInStatelessSession( workerExecutionContext, nextPlan, futures ) );
+			}
+			catch (RejectedExecutionException e) {
+				break;
+			}
+		}
+		try {
+			for ( int planIndex = nextPlan.getAndIncrement(); planIndex < planCount; planIndex = nextPlan.getAndIncrement() ) {
+				futures.get( planIndex ).complete( aggregatedQueryPlans[planIndex].performList( executionContext ) );
+			}
+		}
+		catch (RuntimeException | Error e) {
+			// keep the tasks from starting further queries
+			nextPlan.set( planCount );
+			throw e;
+		}
+		try {
+			final List<List<R>> results = new ArrayList<>( planCount );
+			for ( CompletableFuture<List<R>> future : futures ) {
+				results.add( future.get() );
+			}
+			return results;
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw new HibernateException( "Could not execute polymorphic query", e.getCause() );
+		}
+		catch (InterruptedException e) {
+			nextPlan.set( planCount );
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while executing polymorphic query", e );
+		}
+	}
+
+	private static DomainQueryExecutionContext withCopiedBindings(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings bindings =
+				new CopiedQueryParameterBindings( executionContext.getQueryParameterBindings() );
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return bindings;
+			}
+		};
+	}
+
+	private void performListInStatelessSession(
+			DomainQueryExecutionContext executionContext,
+			AtomicInteger nextPlan,
+			List<CompletableFuture<List<R>>> futures) {
+		int planIndex = nextPlan.getAndIncrement();
+		if ( planIndex >= futures.size() ) {
+			// the other threads already started all queries
+			return;
+		}
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		try ( StatelessSession statelessSession = session.getFactory().withStatelessOptions()
+				.tenantIdentifier( session.getTenantIdentifierValue() )
+				.openStatelessSession() ) {
+			final SharedSessionContractImplementor statelessSessionImplementor =
+					(SharedSessionContractImplementor) statelessSession;
+			final DomainQueryExecutionContext statelessExecutionContext =
+					new DelegatingDomainQueryExecutionContext( executionContext ) {
+						@Override
+						public SharedSessionContractImplementor getSession() {
+							return statelessSessionImplementor;
+						}
+					};
+			for ( ; planIndex < futures.size(); planIndex = nextPlan.getAndIncrement() ) {
+				futures.get( planIndex ).complete( aggregatedQueryPlans[planIndex].performList( statelessExecutionContext ) );
+			}
+		}
+		catch (Throwable e) {
+			if ( planIndex < futures.size() ) {
+				futures.get( planIndex ).completeExceptionally( e );
+			}
+		}
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -6,6 +6,10 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.AttributeNodeImplementor;
 import org.hibernate.graph.spi.GraphImplementor;
@@ -40,4 +44,45 @@ public class AppliedGraphs {
 		}
 		return false;
 	}
+
+	/**
+	 * A key representing the structure of the applied graph, i.e. its semantic and the attribute
+	 * nodes of the graph and of its subgraphs, or {@code null} if no graph is applied. Graphs with
+	 * the same structure result in the same query plan, even if they are distinct instances.
+	 */
+	public static Object getStructureKey(QueryOptions queryOptions) {
+		final AppliedGraph appliedGraph = queryOptions.getAppliedGraph();
+		if ( appliedGraph == null || appliedGraph.getSemantic() == null || appliedGraph.getGraph() == null ) {
+			return null;
+		}
+		return List.of(
+				appliedGraph.getSemantic(),
+				appliedGraph.getGraph().getGraphedType(),
+				structureOf( appliedGraph.getGraph() )
+		);
+	}
+
+	private static Map<String, List<Map<Class<?>, Object>>> structureOf(GraphImplementor<?> graph) {
+		final List<AttributeNodeImplementor<?>> attributeNodes = graph.getAttributeNodeImplementors();
+		final Map<String, List<Map<Class<?>, Object>>> structure = new HashMap<>( attributeNodes.size() );
+		for ( AttributeNodeImplementor<?> attributeNode : attributeNodes ) {
+			structure.put(
+					attributeNode.getAttributeName(),
+					List.of(
+							structureOf( attributeNode.getSubGraphMap() ),
+							structureOf( attributeNode.getKeySubGraphMap() )
+					)
+			);
+		}
+		return structure;
+	}
+
+	private static Map<Class<?>, Object> structureOf(Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs) {
+		if ( subGraphs.isEmpty() ) {
+			return Map.of();
+		}
+		final Map<Class<?>, Object> structure = new HashMap<>( subGraphs.size() );
+		subGraphs.forEach( (type, subGraph) -> structure.put( type, structureOf( subGraph ) ) );
+		return structure;
+	}
 }
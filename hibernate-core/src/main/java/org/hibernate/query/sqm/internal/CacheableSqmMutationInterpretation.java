@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+/**
+ * The translation of a SQM insert, update or delete statement which is kept by a
+ * {@link org.hibernate.query.spi.NonSelectQueryPlan} for subsequent executions.
+ * <p>
+ * Since the plan might be cached and executed concurrently, the interpretation is
+ * never changed once it is built. The translation expands multi-valued parameters
+ * into the {@link DomainParameterXref}, so each interpretation owns a copy of it.
+ *
+ * @param <T> the type of the SQL AST of the translated statement
+ *
+ * @see SimpleInsertQueryPlan
+ * @see SimpleUpdateQueryPlan
+ * @see SimpleDeleteQueryPlan
+ */
+final class CacheableSqmMutationInterpretation<T extends MutationStatement> {
+	private final SqmTranslation<T> sqmTranslation;
+	private final DomainParameterXref domainParameterXref;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private final JdbcOperationQueryMutation jdbcOperation;
+	private transient JdbcParameterBindings firstParameterBindings;
+
+	private CacheableSqmMutationInterpretation(
+			SqmTranslation<T> sqmTranslation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			JdbcOperationQueryMutation jdbcOperation,
+			JdbcParameterBindings firstParameterBindings) {
+		this.sqmTranslation = sqmTranslation;
+		this.domainParameterXref = domainParameterXref;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.jdbcOperation = jdbcOperation;
+		this.firstParameterBindings = firstParameterBindings;
+	}
+
+	/**
+	 * Translate the given statement for the given execution.
+	 *
+	 * @param sqlAstCreator creates the SQL AST which is rendered from the translated SQL AST
+	 */
+	static <T extends MutationStatement> CacheableSqmMutationInterpretation<T> interpret(
+			SqmDmlStatement<?> sqmStatement,
+			DomainParameterXref sharedDomainParameterXref,
+			Function<? super T, ? extends MutationStatement> sqlAstCreator,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final DomainParameterXref domainParameterXref = sharedDomainParameterXref.copy();
+
+		@SuppressWarnings("unchecked")
+		final SqmTranslation<T> sqmTranslation = (SqmTranslation<T>) factory.getQueryEngine()
+				.getSqmTranslatorFactory()
+				.createMutationTranslator(
+						sqmStatement,
+						executionContext.getQueryOptions(),
+						domainParameterXref,
+						executionContext.getQueryParameterBindings(),
+						executionContext.getSession().getLoadQueryInfluencers(),
+						factory
+				)
+				.translate();
+
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmTranslation::getJdbcParamsBySqmParam );
+
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				sqmTranslation,
+				domainParameterXref,
+				jdbcParamsXref,
+				executionContext
+		);
+
+		final JdbcOperationQueryMutation jdbcOperation = factory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildMutationTranslator( factory, sqlAstCreator.apply( sqmTranslation.getSqlAst() ) )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+
+		return new CacheableSqmMutationInterpretation<>(
+				sqmTranslation,
+				domainParameterXref,
+				jdbcParamsXref,
+				jdbcOperation,
+				jdbcParameterBindings
+		);
+	}
+
+	SqmTranslation<T> getSqmTranslation() {
+		return sqmTranslation;
+	}
+
+	JdbcOperationQueryMutation getJdbcOperation() {
+		return jdbcOperation;
+	}
+
+	/**
+	 * The parameter bindings which were used for the translation, which may only be
+	 * retrieved once, before this interpretation is shared with other executions.
+	 */
+	JdbcParameterBindings takeFirstParameterBindings() {
+		final JdbcParameterBindings jdbcParameterBindings = firstParameterBindings;
+		firstParameterBindings = null;
+		return jdbcParameterBindings;
+	}
+
+	/**
+	 * Create the bindings of the JDBC parameters for the given execution, or return
+	 * {@code null} if the multi-valued parameters were expanded for different numbers
+	 * of values, in which case the statement has to be translated again.
+	 */
+	JdbcParameterBindings createJdbcParameterBindings(DomainQueryExecutionContext executionContext) {
+		if ( !domainParameterXref.isExpansionCompatible( executionContext.getQueryParameterBindings() ) ) {
+			return null;
+		}
+		return createJdbcParameterBindings( sqmTranslation, domainParameterXref, jdbcParamsXref, executionContext );
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			SqmTranslation<?> sqmTranslation,
+			DomainParameterXref domainParameterXref,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final Map<SqmParameter<?>, MappingModelExpressible<?>> parameterTypeResolutions =
+				sqmTranslation.getSqmParameterMappingModelTypeResolutions();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				sqmTranslation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <P> MappingModelExpressible<P> getResolvedMappingModelType(SqmParameter<P> parameter) {
+						return (MappingModelExpressible<P>) parameterTypeResolutions.get( parameter );
+					}
+				},
+				session
+		);
+	}
+}
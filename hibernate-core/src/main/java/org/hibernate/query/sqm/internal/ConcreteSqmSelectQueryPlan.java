@@ -27,6 +27,7 @@ import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -76,6 +77,7 @@ import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToRe
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
+	private final QueryParameterImplementor<?>[] criteriaParameters;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
@@ -92,6 +94,11 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
 		this.domainParameterXref = domainParameterXref;
+		// A plan for a criteria query is shared by criteria trees with the same structure,
+		// which bind the parameters of the executing tree (see SqmInterpretationsKey)
+		this.criteriaParameters = CRITERIA_HQL_STRING.equals( hql ) && domainParameterXref.hasParameters()
+				? domainParameterXref.getQueryParameters().keySet().toArray( new QueryParameterImplementor<?>[0] )
+				: null;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
 
@@ -105,69 +112,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						resultCountEstimate,
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					null,
+					resultCountEstimate,
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
 //						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
 //						sqmInterpretation.selectStatement,
@@ -175,39 +171,33 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //						jdbcParameterBindings
 //				);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer,
+					resultCountEstimate
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		multi-valued parameter expansion, etc - because those are all
+		//		part of the cache key (see SqmInterpretationsKey), and the
+		//		expansions are recorded in a copy of the DomainParameterXref
+		//		which belongs to the CacheableSqmInterpretation.
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -388,6 +378,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
 							domainParameterXref,
+							queryParameterBindings( executionContext ),
 							executionContext
 					);
 					jdbcParameterBindings = localCopy.firstParameterBindings;
@@ -395,44 +386,68 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					cacheableSqmInterpretation = localCopy;
 				}
 				else {
+					// Multi-valued parameters which are not in a padded in list are only expanded for
+					// the number of values they were translated for
+					final boolean expansionCompatible = localCopy.domainParameterXref
+							.isExpansionCompatible( queryParameterBindings( executionContext ) );
 					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+					if ( expansionCompatible && localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 					}
 					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 					// We could avoid this by putting the lock options into the cache key
-					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+					if ( !expansionCompatible ) {
 						localCopy = buildCacheableSqmInterpretation(
 								sqm,
 								domainParameterXref,
+								queryParameterBindings( executionContext ),
 								executionContext
 						);
 						jdbcParameterBindings = localCopy.firstParameterBindings;
 						localCopy.firstParameterBindings = null;
 						cacheableSqmInterpretation = localCopy;
 					}
+					else if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+						if ( jdbcParameterBindings == null ) {
+							jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+						}
+						localCopy = retranslateSqlAst( localCopy, jdbcParameterBindings, executionContext );
+						cacheableSqmInterpretation = localCopy;
+					}
 				}
 			}
 		}
 		else {
+			// Multi-valued parameters which are not in a padded in list are only expanded for
+			// the number of values they were translated for
+			final boolean expansionCompatible = localCopy.domainParameterXref
+					.isExpansionCompatible( queryParameterBindings( executionContext ) );
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+			if ( expansionCompatible && localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
 			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
 			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			if ( !expansionCompatible ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
 						domainParameterXref,
+						queryParameterBindings( executionContext ),
 						executionContext
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
 				cacheableSqmInterpretation = localCopy;
 			}
+			else if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				if ( jdbcParameterBindings == null ) {
+					jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+				}
+				localCopy = retranslateSqlAst( localCopy, jdbcParameterBindings, executionContext );
+				cacheableSqmInterpretation = localCopy;
+			}
 		}
 
 		if ( jdbcParameterBindings == null ) {
@@ -445,8 +460,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				queryParameterBindings( executionContext ),
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -461,12 +476,26 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	/**
+	 * The parameter bindings of the executing query, as bindings of the parameters of this plan.
+	 */
+	private QueryParameterBindings queryParameterBindings(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings queryParameterBindings = executionContext.getQueryParameterBindings();
+		return criteriaParameters == null
+				? queryParameterBindings
+				: PositionalQueryParameterBindings.from( criteriaParameters, queryParameterBindings );
+	}
+
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref sharedDomainParameterXref,
+			QueryParameterBindings queryParameterBindings,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		// The translation expands multi-valued parameters into the xref, so we use a copy
+		// which is owned by the interpretation, as this plan might be executed concurrently
+		final DomainParameterXref domainParameterXref = sharedDomainParameterXref.copy();
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -474,7 +503,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 								sqm,
 								executionContext.getQueryOptions(),
 								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
+								queryParameterBindings,
 								executionContext.getSession().getLoadQueryInfluencers(),
 								sessionFactory,
 								true
@@ -491,7 +520,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
+				queryParameterBindings,
 				domainParameterXref,
 				jdbcParamsXref,
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
@@ -509,12 +538,45 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				tableGroupAccess,
+				domainParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
 				jdbcParameterBindings
 		);
 	}
 
+	/**
+	 * Translate the SQL AST of the given interpretation to a new {@link JdbcOperationQuerySelect},
+	 * for an execution with parameter bindings or query options which are not compatible with
+	 * the existing one. The SQL AST does not depend on them, so it is shared with the given
+	 * interpretation instead of being translated from the SQM tree again.
+	 * <p>
+	 * The shared {@link SelectStatement} may be translated by several threads at once. This
+	 * relies on the {@link org.hibernate.sql.ast.SqlAstTranslator} never mutating the statement
+	 * it translates, and only building new nodes for emulations, just like the loaders which
+	 * keep a {@code SelectStatement} and translate it for every load, for example
+	 * {@link org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex}.
+	 */
+	private static CacheableSqmInterpretation retranslateSqlAst(
+			CacheableSqmInterpretation sqmInterpretation,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+		final JdbcOperationQuerySelect jdbcSelect =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( sessionFactory, sqmInterpretation.getSelectStatement() )
+						.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		return new CacheableSqmInterpretation(
+				sqmInterpretation.getSelectStatement(),
+				jdbcSelect,
+				sqmInterpretation.getTableGroupAccess(),
+				sqmInterpretation.getDomainParameterXref(),
+				sqmInterpretation.getJdbcParamsXref(),
+				sqmInterpretation.getSqmParameterMappingModelTypes(),
+				null
+		);
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -527,6 +589,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
 		private transient JdbcParameterBindings firstParameterBindings;
@@ -535,12 +598,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
@@ -558,6 +623,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.QueryParameterBindingImpl;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+
+/**
+ * Copies of the bindings of the parameters of a query, for executing the query
+ * in another thread. The translation of a query resolves the type of the bindings,
+ * so the threads executing the queries of a polymorphic query concurrently may not
+ * share the bindings.
+ *
+ * @see AggregatedSelectQueryPlanImpl
+ */
+final class CopiedQueryParameterBindings implements QueryParameterBindings {
+	private final QueryParameterImplementor<?>[] parameters;
+	private final QueryParameterBinding<?>[] bindings;
+	private final QueryParameterBindings delegate;
+
+	CopiedQueryParameterBindings(QueryParameterBindings delegate) {
+		final List<QueryParameterImplementor<?>> parameters = new ArrayList<>();
+		final List<QueryParameterBinding<?>> bindings = new ArrayList<>();
+		delegate.visitBindings(
+				(parameter, binding) -> {
+					parameters.add( parameter );
+					bindings.add( copy( binding ) );
+				}
+		);
+		this.parameters = parameters.toArray( new QueryParameterImplementor<?>[0] );
+		this.bindings = bindings.toArray( new QueryParameterBinding<?>[0] );
+		this.delegate = delegate;
+	}
+
+	private static QueryParameterBinding<?> copy(QueryParameterBinding<?> binding) {
+		return binding instanceof QueryParameterBindingImpl<?> bindingImpl ? bindingImpl.copy() : binding;
+	}
+
+	private int position(Object parameter) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( parameters[i] == parameter ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean isBound(QueryParameterImplementor<?> parameter) {
+		return getBinding( parameter ).isBound();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+		final int position = position( parameter );
+		return position < 0
+				? delegate.getBinding( parameter )
+				: (QueryParameterBinding<P>) bindings[position];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(String name) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( Objects.equals( name, parameters[i].getName() ) ) {
+				return (QueryParameterBinding<P>) bindings[i];
+			}
+		}
+		return delegate.getBinding( name );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(int position) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( Objects.equals( position, parameters[i].getPosition() ) ) {
+				return (QueryParameterBinding<P>) bindings[i];
+			}
+		}
+		return delegate.getBinding( position );
+	}
+
+	@Override
+	public void validate() {
+		delegate.validate();
+	}
+
+	@Override
+	public boolean hasAnyMultiValuedBindings() {
+		return delegate.hasAnyMultiValuedBindings();
+	}
+
+	@Override
+	public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+		return delegate.generateQueryKeyMemento( session );
+	}
+
+	@Override
+	public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			action.accept( parameters[i], bindings[i] );
+		}
+	}
+}
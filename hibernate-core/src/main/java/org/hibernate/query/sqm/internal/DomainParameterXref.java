@@ -16,6 +16,8 @@ import java.util.TreeMap;
 
 import org.hibernate.query.internal.QueryParameterNamedImpl;
 import org.hibernate.query.internal.QueryParameterPositionalImpl;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.SqmTreeTransformationLogger;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -30,6 +32,10 @@ import org.hibernate.type.BasicCollectionType;
  * @author Steve Ebersole
  */
 public class DomainParameterXref {
+	/**
+	 * The value position of an expansion which is bound to an array of all values.
+	 */
+	public static final int ARRAY_OF_VALUES = -1;
 
 	public static final DomainParameterXref EMPTY = new DomainParameterXref(
 			new LinkedHashMap<>( 0 ),
@@ -41,6 +47,16 @@ public class DomainParameterXref {
 	 * Create a DomainParameterXref for the parameters defined in the SQM statement
 	 */
 	public static DomainParameterXref from(SqmStatement<?> sqmStatement) {
+		return from( sqmStatement, EMPTY );
+	}
+
+	/**
+	 * Create a DomainParameterXref for the parameters defined in an SQM statement which
+	 * was derived from the statement of the given xref, for example by adding restrictions.
+	 * The parameters of the original statement are mapped to their existing QueryParameters,
+	 * so that the statement may be executed with the bindings of the original query.
+	 */
+	public static DomainParameterXref from(SqmStatement<?> sqmStatement, DomainParameterXref original) {
 		// `xrefMap` is used to help maintain the proper cardinality between an
 		// SqmParameter and a QueryParameter.  Multiple SqmParameter references
 		// can map to the same QueryParameter.  Consider, e.g.,
@@ -70,7 +86,12 @@ public class DomainParameterXref {
 			final QueryParameterImplementor<?> queryParameter = xrefMap.computeIfAbsent(
 					sqmParameter,
 					p -> {
-						if ( sqmParameter instanceof SqmJpaCriteriaParameterWrapper ) {
+						final QueryParameterImplementor<?> originalParameter =
+								original.queryParamBySqmParam.get( sqmParameter );
+						if ( originalParameter != null ) {
+							return originalParameter;
+						}
+						else if ( sqmParameter instanceof SqmJpaCriteriaParameterWrapper ) {
 							return ( (SqmJpaCriteriaParameterWrapper<?>) sqmParameter ).getJpaCriteriaParameter();
 						}
 						else if ( sqmParameter.getName() != null ) {
@@ -118,6 +139,8 @@ public class DomainParameterXref {
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Map<SqmParameter<?>,Integer> expansionValuePositions;
+	private Map<QueryParameterImplementor<?>,Integer> expandedValueCounts;
 
 	private DomainParameterXref(
 			LinkedHashMap<QueryParameterImplementor<?>, List<SqmParameter<?>>> sqmParamsByQueryParam,
@@ -186,18 +209,29 @@ public class DomainParameterXref {
 		return queryParamBySqmParam.get( sqmParameter );
 	}
 
+	/**
+	 * Register an expansion of a multi-valued parameter.
+	 *
+	 * @param valuePosition the position of the bound value of the expansion, or
+	 * {@link #ARRAY_OF_VALUES} for an expansion which is bound to an array of all values.
+	 * Expansions which pad an in list have a position beyond the number of bound values,
+	 * and are bound to the last value.
+	 */
 	public void addExpansion(
 			QueryParameterImplementor<?> domainParam,
 			SqmParameter originalSqmParameter,
-			SqmParameter expansion) {
+			SqmParameter expansion,
+			int valuePosition) {
 		assert !queryParamBySqmParam.isEmpty();
 		queryParamBySqmParam.put( expansion, domainParam );
 
 		if ( expansions == null ) {
 			expansions = new IdentityHashMap<>();
+			expansionValuePositions = new IdentityHashMap<>();
 		}
 
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
+		expansionValuePositions.put( expansion, valuePosition );
 	}
 
 	public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
@@ -209,6 +243,41 @@ public class DomainParameterXref {
 		return sqmParameters == null ? Collections.emptyList() : sqmParameters;
 	}
 
+	/**
+	 * The position of the bound value of the given expansion.
+	 *
+	 * @see #addExpansion(QueryParameterImplementor, SqmParameter, SqmParameter, int)
+	 */
+	public int getExpansionValuePosition(SqmParameter<?> expansion) {
+		return expansionValuePositions.get( expansion );
+	}
+
+	/**
+	 * Register that the parameter was expanded for exactly the given number of values,
+	 * rather than into a padded in list which also fits a smaller number of values.
+	 */
+	public void addExpandedValueCount(QueryParameterImplementor<?> domainParam, int valueCount) {
+		if ( expandedValueCounts == null ) {
+			expandedValueCounts = new IdentityHashMap<>();
+		}
+		expandedValueCounts.put( domainParam, valueCount );
+	}
+
+	/**
+	 * Whether the expansions of the multi-valued parameters fit the values bound to them.
+	 */
+	public boolean isExpansionCompatible(QueryParameterBindings bindings) {
+		if ( expandedValueCounts != null ) {
+			for ( Map.Entry<QueryParameterImplementor<?>, Integer> entry : expandedValueCounts.entrySet() ) {
+				final QueryParameterBinding<?> binding = bindings.getBinding( entry.getKey() );
+				if ( !binding.isMultiValued() || binding.getBindValues().size() != entry.getValue() ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	public void clearExpansions() {
 		if ( expansions == null ) {
 			return;
@@ -221,5 +290,9 @@ public class DomainParameterXref {
 		}
 
 		expansions.clear();
+		expansionValuePositions.clear();
+		if ( expandedValueCounts != null ) {
+			expandedValueCounts.clear();
+		}
 	}
 }
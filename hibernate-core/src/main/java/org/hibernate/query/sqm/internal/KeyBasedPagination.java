@@ -6,7 +6,6 @@
  */
 package org.hibernate.query.sqm.internal;
 
-import jakarta.persistence.criteria.Expression;
 import org.hibernate.AssertionFailure;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Order;
@@ -15,6 +14,7 @@ import org.hibernate.query.criteria.JpaCompoundSelection;
 import org.hibernate.query.criteria.JpaSelection;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
 import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
@@ -26,6 +26,7 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import static org.hibernate.query.sqm.SqmQuerySource.CRITERIA;
 import static org.hibernate.query.sqm.internal.SqmUtil.sortSpecification;
 
 /**
@@ -35,8 +36,13 @@ import static org.hibernate.query.sqm.internal.SqmUtil.sortSpecification;
  */
 public class KeyBasedPagination {
 
+	/**
+	 * Order the given statement by the given key, and select the key along with the entity.
+	 * If the statement is restricted, it only returns the rows after a key, the values of
+	 * which are bound to the parameters named by {@link #keyParameterName(int)}.
+	 */
 	static <R> SqmSelectStatement<KeyedResult<R>> paginate(
-			List<Order<? super R>> keyDefinition, List<Comparable<?>> keyValues,
+			List<Order<? super R>> keyDefinition, boolean restricted,
 			SqmSelectStatement<KeyedResult<R>> statement, NodeBuilder builder) {
 		final SqmQuerySpec<?> querySpec = statement.getQuerySpec();
 		final List<? extends JpaSelection<?>> items = querySpec.getSelectClause().getSelectionItems();
@@ -47,8 +53,8 @@ public class KeyBasedPagination {
 						.collect( toList() ) );
 				final SqmFrom<?,?> root = (SqmFrom<?,?>) selected;
 				statement.select( keySelection( keyDefinition, root, selected, builder ) );
-				if ( keyValues != null ) {
-					final SqmPredicate restriction = keyRestriction( keyDefinition, keyValues, root, builder );
+				if ( restricted ) {
+					final SqmPredicate restriction = keyRestriction( keyDefinition, statement, root, builder );
 					final SqmPredicate queryWhere = querySpec.getRestriction();
 					statement.where( queryWhere == null ? restriction : builder.and( queryWhere, restriction ) );
 				}
@@ -66,7 +72,7 @@ public class KeyBasedPagination {
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private static <R> SqmPredicate keyRestriction(
 			List<Order<? super R>> keyDefinition,
-			List<Comparable<?>> keyValues,
+			SqmSelectStatement<?> statement,
 			SqmFrom<?, ?> root,
 			NodeBuilder builder) {
 		final List<SqmPath<?>> keyPaths = new ArrayList<>();
@@ -78,9 +84,8 @@ public class KeyBasedPagination {
 			// ordering by an attribute of the returned entity
 			final SortDirection direction = keyDefinition.get(i).getDirection();
 			final SqmPath key = keyPaths.get(i);
-			final Comparable keyValue = keyValues.get(i);
 			final List<SqmPath<?>> previousKeys = keyPaths.subList(0, i);
-			final SqmPredicate predicate = keyPredicate( key, keyValue, direction, previousKeys, keyValues, builder );
+			final SqmPredicate predicate = keyPredicate( key, i, direction, previousKeys, statement, builder );
 			restriction = restriction == null ? predicate : builder.or( restriction, predicate );
 		}
 		return restriction;
@@ -115,30 +120,49 @@ public class KeyBasedPagination {
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private static <C extends Comparable<? super C>> SqmPredicate keyPredicate(
-			Expression<? extends C> key, C keyValue, SortDirection direction,
-			List<SqmPath<?>> previousKeys, List<Comparable<?>> keyValues,
+			SqmPath<C> key, int position, SortDirection direction,
+			List<SqmPath<?>> previousKeys, SqmSelectStatement<?> statement,
 			NodeBuilder builder) {
-		// TODO: use a parameter here and create a binding for it
-//		@SuppressWarnings("unchecked")
-//		final Class<C> valueClass = (Class<C>) keyValue.getClass();
-//		final JpaParameterExpression<C> parameter = builder.parameter(valueClass);
-//		setParameter( parameter, keyValue );
 		SqmPredicate predicate;
 		switch ( direction ) {
 			case ASCENDING:
-				predicate = builder.greaterThan( key, keyValue );
+				predicate = builder.greaterThan( key, keyParameter( key, position, statement, builder ) );
 				break;
 			case DESCENDING:
-				predicate = builder.lessThan( key, keyValue );
+				predicate = builder.lessThan( key, keyParameter( key, position, statement, builder ) );
 				break;
 			default:
 				throw new AssertionFailure("Unrecognized key direction");
 		}
 		for ( int i = 0; i < previousKeys.size(); i++ ) {
 			final SqmPath keyPath = previousKeys.get(i);
-			predicate = builder.and( predicate, keyPath.equalTo( keyValues.get(i) ) );
+			predicate = builder.and( predicate, keyPath.equalTo( keyParameter( keyPath, i, statement, builder ) ) );
 		}
 		return predicate;
 	}
 
+	/**
+	 * The name of the parameter to which the value of the key element at the given
+	 * position is bound. The name is not a valid HQL identifier, so it cannot clash
+	 * with the parameters of the query.
+	 */
+	static String keyParameterName(int position) {
+		return "key#" + position;
+	}
+
+	/**
+	 * Create an occurrence of the parameter for the key element at the given position,
+	 * the way the HQL parser creates an occurrence for every reference to a parameter.
+	 */
+	private static <C> SqmNamedParameter<C> keyParameter(
+			SqmPath<C> key, int position, SqmSelectStatement<?> statement, NodeBuilder builder) {
+		final SqmNamedParameter<C> parameter =
+				new SqmNamedParameter<>( keyParameterName( position ), false, key.getNodeType(), builder );
+		if ( statement.getQuerySource() != CRITERIA ) {
+			// the parameters of a criteria tree are collected from the tree
+			statement.addParameter( parameter );
+		}
+		return parameter;
+	}
+
 }
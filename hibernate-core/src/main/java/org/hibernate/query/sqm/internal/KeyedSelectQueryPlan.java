@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.ParameterMetadataImpl;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+/**
+ * The plan of a query with {@linkplain KeyBasedPagination key-based pagination}. The
+ * values of the key are bound to parameters of the plan, along with the parameters of
+ * the query, so that all pages of a query with the same key definition share the plan.
+ *
+ * @see SqmInterpretationsKey#createKeyedInterpretationsKey
+ */
+final class KeyedSelectQueryPlan<R> implements SelectQueryPlan<KeyedResult<R>> {
+	private final SelectQueryPlan<KeyedResult<R>> plan;
+	private final QueryParameterImplementor<?>[] keyParameters;
+	private final ParameterMetadataImplementor keyParameterMetadata;
+
+	/**
+	 * @param plan the plan of the paginated statement
+	 * @param keySize the number of elements of the key, or {@code 0} if the statement
+	 * is not restricted to the rows after a key
+	 * @param domainParameterXref the parameters of the paginated statement
+	 */
+	KeyedSelectQueryPlan(
+			SelectQueryPlan<KeyedResult<R>> plan,
+			int keySize,
+			DomainParameterXref domainParameterXref) {
+		this.plan = plan;
+		if ( keySize == 0 ) {
+			this.keyParameters = null;
+			this.keyParameterMetadata = null;
+		}
+		else {
+			this.keyParameters = new QueryParameterImplementor<?>[keySize];
+			final Map<QueryParameterImplementor<?>, List<SqmParameter<?>>> parameters = new LinkedHashMap<>( keySize );
+			for ( int i = 0; i < keySize; i++ ) {
+				final QueryParameterImplementor<?> keyParameter = keyParameter( domainParameterXref, i );
+				keyParameters[i] = keyParameter;
+				parameters.put( keyParameter, domainParameterXref.getSqmParameters( keyParameter ) );
+			}
+			this.keyParameterMetadata = new ParameterMetadataImpl( parameters );
+		}
+	}
+
+	private static QueryParameterImplementor<?> keyParameter(DomainParameterXref domainParameterXref, int position) {
+		final String name = KeyBasedPagination.keyParameterName( position );
+		for ( QueryParameterImplementor<?> parameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( name.equals( parameter.getName() ) ) {
+				return parameter;
+			}
+		}
+		throw new AssertionFailure( "Key parameter not found: " + name );
+	}
+
+	/**
+	 * Execute the query for the page after the given key.
+	 *
+	 * @param key the values of the key, or {@code null} if the plan is not restricted by a key
+	 */
+	List<KeyedResult<R>> performList(DomainQueryExecutionContext executionContext, List<Comparable<?>> key) {
+		return plan.performList( withKey( executionContext, key ) );
+	}
+
+	/**
+	 * Execute the query for the page after the given key, passing the results to the given consumer.
+	 *
+	 * @param key the values of the key, or {@code null} if the plan is not restricted by a key
+	 */
+	<T> T executeQuery(
+			DomainQueryExecutionContext executionContext,
+			ResultsConsumer<T, KeyedResult<R>> resultsConsumer,
+			List<Comparable<?>> key) {
+		return plan.executeQuery( withKey( executionContext, key ), resultsConsumer );
+	}
+
+	/**
+	 * Scroll the results of the page after the given key.
+	 *
+	 * @param key the values of the key, or {@code null} if the plan is not restricted by a key
+	 */
+	ScrollableResultsImplementor<KeyedResult<R>> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext,
+			List<Comparable<?>> key) {
+		return plan.performScroll( scrollMode, withKey( executionContext, key ) );
+	}
+
+	/**
+	 * The given execution context, with the values of the given key bound to the key parameters.
+	 */
+	private DomainQueryExecutionContext withKey(DomainQueryExecutionContext executionContext, List<Comparable<?>> key) {
+		if ( keyParameterMetadata == null ) {
+			return executionContext;
+		}
+		if ( key == null || key.size() != keyParameters.length ) {
+			throw new IllegalArgumentException( "Key does not match the key definition of the query" );
+		}
+		final QueryParameterBindings keyBindings =
+				QueryParameterBindingsImpl.from( keyParameterMetadata, executionContext.getSession().getFactory() );
+		for ( int i = 0; i < keyParameters.length; i++ ) {
+			bind( keyBindings.getBinding( keyParameters[i] ), key.get( i ) );
+		}
+		final QueryParameterBindings bindings =
+				new KeyedQueryParameterBindings( executionContext.getQueryParameterBindings(), keyBindings, keyParameterMetadata );
+		return new DelegatingDomainQueryExecutionContext( executionContext ) {
+			@Override
+			public QueryParameterBindings getQueryParameterBindings() {
+				return bindings;
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void bind(QueryParameterBinding<T> binding, Object value) {
+		binding.setBindValue( (T) value );
+	}
+
+	@Override
+	public <T> T executeQuery(
+			DomainQueryExecutionContext executionContext,
+			ResultsConsumer<T, KeyedResult<R>> resultsConsumer) {
+		return executeQuery( executionContext, resultsConsumer, null );
+	}
+
+	@Override
+	public List<KeyedResult<R>> performList(DomainQueryExecutionContext executionContext) {
+		return performList( executionContext, null );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<KeyedResult<R>> performScroll(
+			ScrollMode scrollMode,
+			DomainQueryExecutionContext executionContext) {
+		return performScroll( scrollMode, executionContext, null );
+	}
+
+	/**
+	 * The bindings of the query, along with the bindings of the key parameters.
+	 */
+	private static final class KeyedQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings queryBindings;
+		private final QueryParameterBindings keyBindings;
+		private final ParameterMetadataImplementor keyParameterMetadata;
+
+		private KeyedQueryParameterBindings(
+				QueryParameterBindings queryBindings,
+				QueryParameterBindings keyBindings,
+				ParameterMetadataImplementor keyParameterMetadata) {
+			this.queryBindings = queryBindings;
+			this.keyBindings = keyBindings;
+			this.keyParameterMetadata = keyParameterMetadata;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			return getBinding( parameter ).isBound();
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			return keyParameterMetadata.containsReference( parameter )
+					? keyBindings.getBinding( parameter )
+					: queryBindings.getBinding( parameter );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return queryBindings.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return queryBindings.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			queryBindings.validate();
+			keyBindings.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return queryBindings.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return new KeyedMemento(
+					queryBindings.generateQueryKeyMemento( session ),
+					keyBindings.generateQueryKeyMemento( session )
+			);
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			queryBindings.visitBindings( action );
+			keyBindings.visitBindings( action );
+		}
+	}
+
+	private record KeyedMemento(
+			QueryKey.ParameterBindingsMemento queryMemento,
+			QueryKey.ParameterBindingsMemento keyMemento) implements QueryKey.ParameterBindingsMemento {
+	}
+}
@@ -32,6 +32,6 @@ public class MultiTableDeleteQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
-		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref, executionContext );
+		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -32,6 +32,6 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
-		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref, executionContext );
+		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -33,6 +33,7 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
-		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
+		// multi-valued parameters are expanded into a copy of the xref, as this plan might be cached
+		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref.copy(), executionContext );
 	}
 }
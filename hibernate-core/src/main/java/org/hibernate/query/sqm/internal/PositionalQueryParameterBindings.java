@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+
+/**
+ * Exposes the bindings of the parameters of a criteria query as bindings of the
+ * corresponding parameters of a query plan which was built for another criteria
+ * tree with the same {@linkplain SqmStructuralKey structure}. Parameters which
+ * are not shared by both trees correspond by position, since they are collected
+ * in the same order.
+ *
+ * @see ConcreteSqmSelectQueryPlan
+ */
+final class PositionalQueryParameterBindings implements QueryParameterBindings {
+	private final QueryParameterImplementor<?>[] parameters;
+	private final QueryParameterBinding<?>[] bindings;
+	private final QueryParameterBindings delegate;
+
+	private PositionalQueryParameterBindings(
+			QueryParameterImplementor<?>[] parameters,
+			QueryParameterBinding<?>[] bindings,
+			QueryParameterBindings delegate) {
+		this.parameters = parameters;
+		this.bindings = bindings;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * The bindings of the given parameters, or the given bindings as they are
+	 * if they already are the bindings of these parameters.
+	 */
+	static QueryParameterBindings from(QueryParameterImplementor<?>[] parameters, QueryParameterBindings bindings) {
+		final Map<QueryParameterImplementor<?>, Integer> positions = new IdentityHashMap<>( parameters.length );
+		for ( int i = 0; i < parameters.length; i++ ) {
+			positions.put( parameters[i], i );
+		}
+		final QueryParameterBinding<?>[] planBindings = new QueryParameterBinding<?>[parameters.length];
+		final List<QueryParameterBinding<?>> unmatchedBindings = new ArrayList<>();
+		bindings.visitBindings(
+				(queryParameter, binding) -> {
+					// parameters which the executing query shares with the plan, for
+					// example the key parameters of key-based pagination, might be
+					// collected in a different order
+					final Integer position = positions.get( queryParameter );
+					if ( position == null ) {
+						unmatchedBindings.add( binding );
+					}
+					else {
+						planBindings[position] = binding;
+					}
+				}
+		);
+		if ( unmatchedBindings.isEmpty() ) {
+			return bindings;
+		}
+		// the remaining parameters correspond by position
+		int next = 0;
+		for ( int i = 0; i < planBindings.length; i++ ) {
+			if ( planBindings[i] == null ) {
+				if ( next == unmatchedBindings.size() ) {
+					return bindings;
+				}
+				planBindings[i] = unmatchedBindings.get( next++ );
+			}
+		}
+		if ( next != unmatchedBindings.size() ) {
+			return bindings;
+		}
+		return new PositionalQueryParameterBindings( parameters, planBindings, bindings );
+	}
+
+	private int position(Object parameter) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( parameters[i] == parameter ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean isBound(QueryParameterImplementor<?> parameter) {
+		return getBinding( parameter ).isBound();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+		final int position = position( parameter );
+		return position < 0
+				? delegate.getBinding( parameter )
+				: (QueryParameterBinding<P>) bindings[position];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(String name) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( Objects.equals( name, parameters[i].getName() ) ) {
+				return (QueryParameterBinding<P>) bindings[i];
+			}
+		}
+		return delegate.getBinding( name );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <P> QueryParameterBinding<P> getBinding(int position) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			if ( Objects.equals( position, parameters[i].getPosition() ) ) {
+				return (QueryParameterBinding<P>) bindings[i];
+			}
+		}
+		return delegate.getBinding( position );
+	}
+
+	@Override
+	public void validate() {
+		delegate.validate();
+	}
+
+	@Override
+	public boolean hasAnyMultiValuedBindings() {
+		return delegate.hasAnyMultiValuedBindings();
+	}
+
+	@Override
+	public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+		return delegate.generateQueryKeyMemento( session );
+	}
+
+	@Override
+	public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+		for ( int i = 0; i < parameters.length; i++ ) {
+			action.accept( parameters[i], bindings[i] );
+		}
+	}
+}
@@ -6,22 +6,34 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.TreeMap;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.FilterImpl;
+import org.hibernate.query.Order;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.sql.results.internal.TupleMetadata;
 
-import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
+import static org.hibernate.sql.ast.spi.AbstractSqlAstTranslator.determineBindValueCountWithPadding;
 
 /**
  * @author Steve Ebersole
@@ -33,18 +45,48 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
+		QueryParameterBindings getQueryParameterBindings();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+		TupleMetadata getTupleMetadata();
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
-		if ( isCacheable ( keySource ) ) {
-			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
-					: keySource.getQueryString();
+		return createKey( isCacheable( keySource ) ? queryKey( keySource ) : null, keySource );
+	}
+
+	/**
+	 * A key for the plan of a query with {@linkplain KeyBasedPagination key-based pagination}
+	 * by the given key definition. The values of the key are bound to parameters, so the plan
+	 * is shared by all pages after a key. Criteria-based plans are only shared by executions
+	 * of the same criteria tree.
+	 *
+	 * @param restricted whether the query is restricted to the rows after a key
+	 */
+	public static SqmInterpretationsKey createKeyedInterpretationsKey(
+			InterpretationsKeySource keySource,
+			List<? extends Order<?>> keyDefinition,
+			boolean restricted) {
+		if ( !isCacheable( keySource ) ) {
+			return null;
+		}
+		final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+				? criteriaIdentityKey( keySource )
+				: keySource.getQueryString();
+		return createKey(
+				query == null ? null : new KeyedQuery( query, List.copyOf( keyDefinition ), restricted ),
+				keySource
+		);
+	}
+
+	private record KeyedQuery(Object query, List<? extends Order<?>> keyDefinition, boolean restricted) {
+	}
+
+	private static SqmInterpretationsKey createKey(Object query, InterpretationsKeySource keySource) {
+		if ( query != null ) {
+			final LoadQueryInfluencers loadQueryInfluencers = keySource.getLoadQueryInfluencers();
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -52,7 +94,14 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( loadQueryInfluencers.getEnabledFetchProfileNames() ),
+					memoryEfficientDefensiveSetCopy( loadQueryInfluencers.getEnabledFilterNames() ),
+					filterParameterCardinalities( loadQueryInfluencers ),
+					AppliedGraphs.getStructureKey( keySource.getQueryOptions() ),
+					multiValuedParameterCardinalities(
+							keySource.getQueryParameterBindings(),
+							loadQueryInfluencers.getSessionFactory()
+					)
 			);
 		}
 		else {
@@ -60,6 +109,35 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	/**
+	 * The HQL string, or for criteria queries the {@linkplain SqmStructuralKey structure}
+	 * of the criteria tree, so that criteria trees which are built anew for every
+	 * execution share a plan. Criteria queries with {@link TupleMetadata} refer to the
+	 * selections of their tree, and are keyed by the identity of the tree instead.
+	 */
+	private static Object queryKey(InterpretationsKeySource keySource) {
+		if ( CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+			final SqmStructuralKey structuralKey = keySource.getTupleMetadata() == null
+					? SqmStructuralKey.from( keySource.getSqmStatement() )
+					: null;
+			if ( structuralKey != null ) {
+				return structuralKey;
+			}
+			return criteriaIdentityKey( keySource );
+		}
+		else {
+			return keySource.getQueryString();
+		}
+	}
+
+	private static Object criteriaIdentityKey(CacheabilityInfluencers keySource) {
+		// The identity of the (possibly mutated) criteria tree doesn't reflect
+		// its structure, so we keep these conservative wrt multi-valued bindings
+		return keySource.getQueryParameterBindings().hasAnyMultiValuedBindings()
+				? null
+				: keySource.getSqmStatement();
+	}
+
 	private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<String> set) {
 		if ( set == null ) {
 			return null;
@@ -79,32 +157,134 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	/**
+	 * The number of values of each parameter of the enabled filters, or {@code -1} for
+	 * single-valued parameters, since multi-valued parameters are expanded to one JDBC
+	 * parameter per value. The values themselves are bound on each execution. The
+	 * cardinalities are keyed by the names of the filter and of the parameter, so that
+	 * the key doesn't depend on the order in which the parameters are visited.
+	 *
+	 * @see org.hibernate.internal.FilterJdbcParameter
+	 */
+	private static Map<String, Map<String, Integer>> filterParameterCardinalities(
+			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		Map<String, Map<String, Integer>> cardinalities = null;
+		for ( Map.Entry<String, Filter> entry : loadQueryInfluencers.getEnabledFilters().entrySet() ) {
+			final Map<String, ?> parameters = ( (FilterImpl) entry.getValue() ).getParameters();
+			if ( !parameters.isEmpty() ) {
+				final Map<String, Integer> parameterCardinalities = new TreeMap<>();
+				for ( Map.Entry<String, ?> parameter : parameters.entrySet() ) {
+					final Object value = parameter.getValue();
+					parameterCardinalities.put(
+							parameter.getKey(),
+							value instanceof Collection<?> collection ? collection.size() : -1
+					);
+				}
+				if ( cardinalities == null ) {
+					cardinalities = new TreeMap<>();
+				}
+				cardinalities.put( entry.getKey(), parameterCardinalities );
+			}
+		}
+		return cardinalities;
+	}
+
+	/**
+	 * The number of bound values of each parameter which allows multi-valued binding, or
+	 * {@code -1} if a single value is bound, since a multi-valued parameter is expanded to
+	 * one JDBC parameter per value. The values themselves are bound on each execution.
+	 * When in lists are padded, the number of values is padded as well, so that the plan
+	 * is shared by all numbers of values which are padded to the same size, and when the
+	 * values of in lists are bound as an array, the plan is shared by all numbers of values
+	 * beyond the threshold.
+	 */
+	private static int[] multiValuedParameterCardinalities(
+			QueryParameterBindings parameterBindings,
+			SessionFactoryImplementor factory) {
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		final int inExprLimit = options.inClauseParameterPaddingEnabled()
+				? dialect.getInExpressionCountLimit()
+				: -1;
+		final int arrayThreshold = dialect.useArrayForMultiValuedParameters()
+				? options.getInClauseParameterArrayThreshold()
+				: 0;
+		final int[][] cardinalities = new int[1][];
+		parameterBindings.visitBindings(
+				(queryParameter, binding) -> {
+					if ( queryParameter.allowsMultiValuedBinding() || binding.isMultiValued() ) {
+						final int[] previous = cardinalities[0];
+						if ( previous == null ) {
+							cardinalities[0] = new int[] { cardinality( binding, inExprLimit, arrayThreshold ) };
+						}
+						else {
+							cardinalities[0] = Arrays.copyOf( previous, previous.length + 1 );
+							cardinalities[0][previous.length] = cardinality( binding, inExprLimit, arrayThreshold );
+						}
+					}
+				}
+		);
+		return cardinalities[0];
+	}
+
+	private static int cardinality(QueryParameterBinding<?> binding, int inExprLimit, int arrayThreshold) {
+		if ( !binding.isMultiValued() ) {
+			return -1;
+		}
+		final int bindValueCount = binding.getBindValues().size();
+		if ( arrayThreshold > 0 && bindValueCount >= arrayThreshold ) {
+			return Integer.MAX_VALUE;
+		}
+		// an empty list is never padded
+		return inExprLimit < 0 || bindValueCount == 0
+				? bindValueCount
+				: determineBindValueCountWithPadding( bindValueCount, inExprLimit );
+	}
+
+	private static boolean hasEnabledFilterWithResolvedParameters(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( loadQueryInfluencers.hasEnabledFilters() ) {
+			for ( Filter filter : loadQueryInfluencers.getEnabledFilters().values() ) {
+				if ( ( (FilterImpl) filter ).hasResolvedParameters() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
-		// parameters are part of the query string; with Criteria, they're not.
+		// The structure of an applied entity graph and the number of values bound to
+		// multi-valued parameters are part of the key, and multi-valued parameters are
+		// expanded into a copy of the DomainParameterXref for each translation.
+		// Criteria-based plans are shared by criteria trees with the same structure,
+		// and bind the parameters of the executing tree by position.
 		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
-	}
-
-	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+				// We cannot cache query plan if a filter parameter is provided by a resolver,
+				// as the number of values of the parameter is not known before translation
+			&& ! hasEnabledFilterWithResolvedParameters( keySource.getLoadQueryInfluencers() );
+	}
+
+	/**
+	 * A key for the plan of an insert, update or delete statement. Unlike select plans,
+	 * the plan of a criteria statement is only shared by executions of the same criteria
+	 * tree, since the multi-table mutation strategies bind the parameters of the executing
+	 * query themselves.
+	 */
+	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keySource) {
+		if ( !isCacheable( keySource ) ) {
+			return null;
+		}
+		return createKey(
+				CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+						? criteriaIdentityKey( keySource )
+						: keySource.getQueryString(),
+				keySource
+		);
 	}
 
 	private final Object query;
@@ -113,6 +293,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final Collection<String> enabledFilters;
+	private final Map<String, Map<String, Integer>> filterParameterCardinalities;
+	private final Object appliedGraph;
+	private final int[] multiValuedParameterCardinalities;
 	private final int hashcode;
 
 	private SqmInterpretationsKey(
@@ -122,7 +306,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			Collection<String> enabledFilters,
+			Map<String, Map<String, Integer>> filterParameterCardinalities,
+			Object appliedGraph,
+			int[] multiValuedParameterCardinalities) {
 		this.query = query;
 		this.hashcode = hash;
 		this.resultType = resultType;
@@ -130,6 +318,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.filterParameterCardinalities = filterParameterCardinalities;
+		this.appliedGraph = appliedGraph;
+		this.multiValuedParameterCardinalities = multiValuedParameterCardinalities;
 	}
 
 	@Override
@@ -142,7 +334,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				enabledFilters,
+				filterParameterCardinalities,
+				appliedGraph,
+				multiValuedParameterCardinalities
 		);
 	}
 
@@ -167,7 +363,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			&& Objects.equals( lockOptions, that.lockOptions )
 			&& Objects.equals( tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( enabledFilters, that.enabledFilters )
+			&& Objects.equals( filterParameterCardinalities, that.filterParameterCardinalities )
+			&& Objects.equals( appliedGraph, that.appliedGraph )
+			&& Arrays.equals( multiValuedParameterCardinalities, that.multiValuedParameterCardinalities );
 	}
 
 	@Override
@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
+import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmFunction;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A key for a criteria query which is based on the structure of its SQM tree
+ * rather than on the identity of the tree, so that criteria queries which are
+ * built anew for every execution can share a cached query plan.
+ * <p>
+ * The structure is the HQL rendering of the tree, with generated aliases and the
+ * names of unnamed parameters replaced by ordinals in order of their occurrence,
+ * along with the Java types of the literals and parameters. Values bound to
+ * parameters, including values turned into parameters according to the
+ * {@link org.hibernate.query.criteria.ValueHandlingMode}, are not part of the
+ * key, whereas the values of literals are. The result types of functions are,
+ * since functions with different result types are rendered the same way.
+ *
+ * @see SqmInterpretationsKey
+ */
+public final class SqmStructuralKey {
+	private static final String GENERATED_ALIAS_PREFIX = "alias_";
+	private static final String GENERATED_PARAMETER_PREFIX = "param_";
+
+	private static final ThreadLocal<Boolean> RENDERING = new ThreadLocal<>();
+
+	private final String hql;
+	private final List<Object> types;
+	private final int hashCode;
+
+	private SqmStructuralKey(String hql, List<Object> types) {
+		this.hql = hql;
+		this.types = types;
+		this.hashCode = 31 * hql.hashCode() + types.hashCode();
+	}
+
+	/**
+	 * Determine the structural key of the given statement, or return {@code null}
+	 * if the statement contains nodes which cannot be rendered as HQL, in which
+	 * case the statement is keyed by its identity.
+	 */
+	static SqmStructuralKey from(SqmStatement<?> statement) {
+		final String hql;
+		RENDERING.set( Boolean.TRUE );
+		try {
+			hql = statement.toHqlString();
+		}
+		catch (RuntimeException e) {
+			return null;
+		}
+		finally {
+			RENDERING.remove();
+		}
+		final TypeCollector typeCollector = new TypeCollector();
+		statement.accept( typeCollector );
+		return new SqmStructuralKey( canonicalize( hql ), typeCollector.types );
+	}
+
+	/**
+	 * Is the HQL rendering of the tree for a structural key in progress? Parameters
+	 * are then rendered by name rather than by the value bound to them, and unnamed
+	 * parameters by a name based on their identity.
+	 */
+	public static boolean isRendering() {
+		return RENDERING.get() == Boolean.TRUE;
+	}
+
+	/**
+	 * Replace the generated identifiers in the given HQL, which are based on the
+	 * identity hash codes of the nodes, by ordinals. String literals are copied
+	 * as they are.
+	 */
+	static String canonicalize(String hql) {
+		final int length = hql.length();
+		final StringBuilder sb = new StringBuilder( length );
+		Map<String, String> ordinals = null;
+		int i = 0;
+		while ( i < length ) {
+			final char c = hql.charAt( i );
+			if ( c == '\'' ) {
+				int end = i + 1;
+				while ( end < length ) {
+					if ( hql.charAt( end ) == '\'' ) {
+						if ( end + 1 < length && hql.charAt( end + 1 ) == '\'' ) {
+							end += 2;
+							continue;
+						}
+						break;
+					}
+					end++;
+				}
+				end = Math.min( end + 1, length );
+				sb.append( hql, i, end );
+				i = end;
+			}
+			else if ( Character.isJavaIdentifierStart( c ) ) {
+				int end = i + 1;
+				while ( end < length && Character.isJavaIdentifierPart( hql.charAt( end ) ) ) {
+					end++;
+				}
+				final String identifier = hql.substring( i, end );
+				// attribute names are never generated
+				final String prefix = i > 0 && hql.charAt( i - 1 ) == '.'
+						? null
+						: generatedIdentifierPrefix( identifier );
+				if ( prefix == null ) {
+					sb.append( identifier );
+				}
+				else {
+					if ( ordinals == null ) {
+						ordinals = new HashMap<>();
+					}
+					final int ordinal = ordinals.size();
+					sb.append( ordinals.computeIfAbsent( identifier, k -> prefix + ordinal ) );
+				}
+				i = end;
+			}
+			else {
+				sb.append( c );
+				i++;
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String generatedIdentifierPrefix(String identifier) {
+		final String prefix;
+		if ( identifier.startsWith( GENERATED_ALIAS_PREFIX ) ) {
+			prefix = GENERATED_ALIAS_PREFIX;
+		}
+		else if ( identifier.startsWith( GENERATED_PARAMETER_PREFIX ) ) {
+			prefix = GENERATED_PARAMETER_PREFIX;
+		}
+		else {
+			return null;
+		}
+		if ( identifier.length() == prefix.length() ) {
+			return null;
+		}
+		for ( int i = prefix.length(); i < identifier.length(); i++ ) {
+			if ( !Character.isDigit( identifier.charAt( i ) ) ) {
+				return null;
+			}
+		}
+		return prefix;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof SqmStructuralKey ) ) {
+			return false;
+		}
+		final SqmStructuralKey that = (SqmStructuralKey) o;
+		return hashCode == that.hashCode
+			&& hql.equals( that.hql )
+			&& types.equals( that.types );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return hql;
+	}
+
+	/**
+	 * Collects the parts of the structure which are not visible in the HQL rendering,
+	 * that is, the types of literals and parameters, since literals of different types
+	 * might be rendered the same way, and ignore case sort specifications.
+	 */
+	private static class TypeCollector extends BaseSemanticQueryWalker {
+		private final List<Object> types = new ArrayList<>();
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			addType( literal );
+			return super.visitLiteral( literal );
+		}
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> expression) {
+			addType( expression );
+			return super.visitJpaCriteriaParameter( expression );
+		}
+
+		@Override
+		public Object visitFunction(SqmFunction<?> sqmFunction) {
+			// the result type of a function is not part of its rendering
+			addType( sqmFunction );
+			return super.visitFunction( sqmFunction );
+		}
+
+		@Override
+		public Object visitSortSpecification(SqmSortSpecification sortSpecification) {
+			types.add( sortSpecification.isIgnoreCase() );
+			return super.visitSortSpecification( sortSpecification );
+		}
+
+		private void addType(SqmExpressibleAccessor<?> node) {
+			final JavaType<?> javaType = node.getNodeJavaType();
+			types.add( javaType == null ? null : javaType.getJavaTypeClass() );
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.lang.reflect.Array;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -78,6 +79,8 @@ import org.hibernate.query.sqm.tree.from.SqmFrom;
 import org.hibernate.query.sqm.tree.from.SqmJoin;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.select.SqmDynamicInstantiation;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
 import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
 import org.hibernate.query.sqm.tree.select.SqmQueryGroup;
 import org.hibernate.query.sqm.tree.select.SqmQueryPart;
@@ -97,6 +100,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.type.JavaObjectType;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
+import org.hibernate.type.descriptor.java.BasicPluralJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.PrimitiveJavaType;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
@@ -521,9 +525,10 @@ public class SqmUtil {
 				);
 
 				final List<JdbcParametersList> jdbcParamsBinds = jdbcParamMap.get( sqmParameter );
-				if ( jdbcParamsBinds == null ) {
+				if ( jdbcParamsBinds == null && domainParameterXref.getExpansions( sqmParameter ).isEmpty() ) {
 					// This can happen when a group or order by item expression, that contains parameters,
-					// is replaced with an alias reference expression, which can happen for JPA Criteria queries
+					// is replaced with an alias reference expression, which can happen for JPA Criteria queries.
+					// A parameter list which is bound as an array is only used by its expansion.
 					continue;
 				}
 				if ( !domainParamBinding.isBound() ) {
@@ -545,7 +550,7 @@ public class SqmUtil {
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
 					final Object firstValue = valueItr.next();
-					for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+					for ( int i = 0; jdbcParamsBinds != null && i < jdbcParamsBinds.size(); i++ ) {
 						final JdbcParametersList jdbcParams = jdbcParamsBinds.get( i );
 						createValueBindings(
 								jdbcParameterBindings,
@@ -559,17 +564,31 @@ public class SqmUtil {
 						);
 					}
 
-					// an then one for each of the expansions
+					// and then one for each of the expansions, where the expansions padding an in list
+					// are bound to the last value
 					final List<SqmParameter<?>> expansions = domainParameterXref.getExpansions( sqmParameter );
-					final int expansionCount = bindValues.size() - 1;
-					final int parameterUseCount = jdbcParamsBinds.size();
-					assert expansions.size() == expansionCount * parameterUseCount;
-					int expansionPosition = 0;
-					while ( valueItr.hasNext() ) {
-						final Object expandedValue = valueItr.next();
-						for ( int j = 0; j < parameterUseCount; j++ ) {
-							final SqmParameter<?> expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
+					if ( !expansions.isEmpty() ) {
+						final Object[] values = bindValues.toArray();
+						for ( int j = 0; j < expansions.size(); j++ ) {
+							final SqmParameter<?> expansionSqmParam = expansions.get( j );
+							final int valuePosition = domainParameterXref.getExpansionValuePosition( expansionSqmParam );
 							final List<JdbcParametersList> jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
+							if ( valuePosition == DomainParameterXref.ARRAY_OF_VALUES ) {
+								for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
+									final JdbcParameter arrayJdbcParam = jdbcParamBinds.get( i ).get( 0 );
+									final JdbcMapping arrayJdbcMapping = arrayJdbcParam.getExpressionType()
+											.getSingleJdbcMapping();
+									jdbcParameterBindings.addBinding(
+											arrayJdbcParam,
+											new JdbcParameterBindingImpl(
+													arrayJdbcMapping,
+													createArray( arrayJdbcMapping, values, session )
+											)
+									);
+								}
+								continue;
+							}
+							final Object expandedValue = values[Math.min( valuePosition, values.length - 1 )];
 							for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 								JdbcParametersList expansionJdbcParams = jdbcParamBinds.get( i );
 								createValueBindings(
@@ -584,7 +603,6 @@ public class SqmUtil {
 								);
 							}
 						}
-						expansionPosition++;
 					}
 				}
 				else {
@@ -650,6 +668,19 @@ public class SqmUtil {
 		return jdbcParameterBindings;
 	}
 
+	private static Object createArray(
+			JdbcMapping arrayJdbcMapping,
+			Object[] values,
+			SharedSessionContractImplementor session) {
+		final JavaType<?> elementJavaType =
+				( (BasicPluralJavaType<?>) arrayJdbcMapping.getJavaTypeDescriptor() ).getElementJavaType();
+		final Object array = Array.newInstance( elementJavaType.getJavaTypeClass(), values.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			Array.set( array, i, elementJavaType.wrap( values[i], session ) );
+		}
+		return array;
+	}
+
 	private static void createValueBindings(
 			JdbcParameterBindings jdbcParameterBindings,
 			QueryParameterImplementor<?> domainParam,
@@ -869,6 +900,42 @@ public class SqmUtil {
 		return selection != null && selection.getSelectableNode() instanceof SqmTuple;
 	}
 
+	/**
+	 * Does the given query only select values of basic type, so that its results
+	 * never contain, or refer to, an entity instance?
+	 */
+	public static boolean selectsBasicValuesOnly(SqmSelectStatement<?> statement) {
+		final List<SqmSelection<?>> selections =
+				statement.getQueryPart().getFirstQuerySpec().getSelectClause().getSelections();
+		if ( selections.isEmpty() ) {
+			return false;
+		}
+		for ( SqmSelection<?> selection : selections ) {
+			if ( !isBasicValued( selection.getSelectableNode() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isBasicValued(SqmSelectableNode<?> selectableNode) {
+		if ( selectableNode instanceof SqmDynamicInstantiation<?>
+				|| selectableNode instanceof SqmJpaCompoundSelection<?> ) {
+			final List<SqmSelectableNode<?>> subSelectableNodes = new ArrayList<>();
+			selectableNode.visitSubSelectableNodes( subSelectableNodes::add );
+			for ( SqmSelectableNode<?> subSelectableNode : subSelectableNodes ) {
+				if ( !isBasicValued( subSelectableNode ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			final SqmExpressible<?> expressible = selectableNode.getExpressible();
+			return expressible != null && expressible.getSqmType() instanceof BasicDomainType<?>;
+		}
+	}
+
 	public static Class<?> resolveExpressibleJavaTypeClass(final SqmExpression<?> expression) {
 		final SqmExpressible<?> expressible = expression.getExpressible();
 		return expressible == null || expressible.getExpressibleJavaType() == null
@@ -7,6 +7,7 @@
 package org.hibernate.query.sqm.sql;
 
 import jakarta.annotation.Nullable;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.PreparedStatement;
@@ -33,6 +34,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.boot.model.process.internal.InferredBasicValueResolver;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.TimestampaddFunction;
 import org.hibernate.dialect.function.TimestampdiffFunction;
@@ -51,6 +53,7 @@ import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.AssociationKey;
@@ -371,6 +374,7 @@ import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -446,6 +450,7 @@ import static org.hibernate.query.sqm.TemporalUnit.NATIVE;
 import static org.hibernate.query.sqm.TemporalUnit.SECOND;
 import static org.hibernate.query.sqm.UnaryArithmeticOperator.UNARY_MINUS;
 import static org.hibernate.query.sqm.internal.SqmUtil.isFkOptimizationAllowed;
+import static org.hibernate.sql.ast.spi.AbstractSqlAstTranslator.determineBindValueCountWithPadding;
 import static org.hibernate.sql.ast.spi.SqlAstTreeHelper.combinePredicates;
 import static org.hibernate.type.spi.TypeConfiguration.isDuration;
 
@@ -5925,19 +5930,18 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				return consumeSingleSqmParameter( sqmParameter );
 			}
 
-			final Collection<?> bindValues = domainParamBinding.getBindValues();
-			final List<Expression> expressions = new ArrayList<>( bindValues.size() );
-			boolean first = true;
-			for ( Object bindValue : bindValues ) {
+			final int bindValueCount = domainParamBinding.getBindValues().size();
+			final List<Expression> expressions = new ArrayList<>( bindValueCount );
+			domainParameterXref.addExpandedValueCount( domainParam, bindValueCount );
+			for ( int i = 0; i < bindValueCount; i++ ) {
 				final SqmParameter<?> sqmParamToConsume;
 				// for each bind value create an "expansion"
-				if ( first ) {
+				if ( i == 0 ) {
 					sqmParamToConsume = sqmParameter;
-					first = false;
 				}
 				else {
 					sqmParamToConsume = sqmParameter.copy();
-					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+					domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 				}
 				expressions.add( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
@@ -8045,9 +8049,11 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				final SqmParameter<?> sqmParameter = (SqmParameter<?>) sqmExpression;
 
 				if ( sqmParameter.allowMultiValuedBinding() ) {
-					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
+					final Predicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
 					if ( specialCase != null ) {
-						handleTypeComparison( specialCase );
+						if ( specialCase instanceof InListPredicate ) {
+							handleTypeComparison( (InListPredicate) specialCase );
+						}
 						return specialCase;
 					}
 				}
@@ -8115,7 +8121,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
-	private InListPredicate processInListWithSingleParameter(
+	private Predicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
 		assert sqmParameter.allowMultiValuedBinding();
@@ -8127,7 +8133,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		return processInSingleHqlParameter( sqmPredicate, sqmParameter );
 	}
 
-	private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+	private Predicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
 		final QueryParameterImplementor<?> domainParam = domainParameterXref.getQueryParameter( sqmParameter );
 		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
 		if ( !domainParamBinding.isMultiValued() ) {
@@ -8138,7 +8144,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		return processInSingleParameter( sqmPredicate, sqmParameter, domainParam, domainParamBinding );
 	}
 
-	private InListPredicate processInSingleCriteriaParameter(
+	private Predicate processInSingleCriteriaParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			JpaCriteriaParameter<?> jpaCriteriaParameter) {
 		assert jpaCriteriaParameter.allowsMultiValuedBinding();
@@ -8153,7 +8159,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 	}
 
 	@SuppressWarnings( "rawtypes" )
-	private InListPredicate processInSingleParameter(
+	private Predicate processInSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
@@ -8173,18 +8179,42 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			return inListPredicate;
 		}
 
+		final SessionFactoryOptions options = creationContext.getSessionFactory().getSessionFactoryOptions();
+		final int bindValueCount = domainParamBinding.getBindValues().size();
+		final int arrayThreshold = options.getInClauseParameterArrayThreshold();
+		if ( arrayThreshold > 0 && bindValueCount >= arrayThreshold
+				&& !sqmPredicate.isNegated()
+				&& getDialect().useArrayForMultiValuedParameters() ) {
+			final InArrayPredicate inArrayPredicate = processInArrayParameter(
+					inListPredicate.getTestExpression(),
+					determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex ),
+					sqmParameter,
+					domainParam,
+					domainParamBinding
+			);
+			if ( inArrayPredicate != null ) {
+				return inArrayPredicate;
+			}
+			// the plan is shared by all numbers of values beyond the threshold,
+			// but the in list is only valid for this number of values
+			domainParameterXref.addExpandedValueCount( domainParam, bindValueCount );
+		}
+
 		inferrableTypeAccessStack.push(
 				() -> determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex )
 		);
 
 		try {
+			// for each bind value create an "expansion", and when padding is enabled, pad the
+			// in list with expansions for the last value, so that the translation is the same
+			// for all numbers of values which are padded to the same size
+			final int expansionCount = options.inClauseParameterPaddingEnabled()
+					? determineBindValueCountWithPadding( bindValueCount, getDialect().getInExpressionCountLimit() )
+					: bindValueCount;
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
-				// for each bind value create an "expansion"
+			for ( int i = 1; i < expansionCount; i++ ) {
 				final SqmParameter<?> sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
 			return inListPredicate;
@@ -8194,6 +8224,48 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Bind all values of the parameter as a single array, if the test expression
+	 * is a basic value without a converter.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private InArrayPredicate processInArrayParameter(
+			Expression testExpression,
+			MappingModelExpressible<?> valueMapping,
+			SqmParameter<?> sqmParameter,
+			QueryParameterImplementor<?> domainParam,
+			QueryParameterBinding<?> domainParamBinding) {
+		if ( testExpression instanceof DiscriminatorPathInterpretation<?>
+				|| !( valueMapping instanceof BasicValuedMapping ) ) {
+			return null;
+		}
+		final JdbcMapping elementJdbcMapping = ( (BasicValuedMapping) valueMapping ).getJdbcMapping();
+		if ( !( elementJdbcMapping instanceof BasicType<?> ) || elementJdbcMapping.getValueConverter() != null ) {
+			return null;
+		}
+		final Class<?> elementClass = elementJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+		if ( elementClass.isArray() || elementClass.isPrimitive() ) {
+			return null;
+		}
+		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+				null,
+				elementJdbcMapping,
+				Array.newInstance( elementClass, 0 ).getClass(),
+				creationContext.getSessionFactory()
+		);
+		domainParamBinding.setType( (MappingModelExpressible) valueMapping );
+
+		// the array is bound to an "expansion" of the parameter
+		final SqmParameter<?> arrayParameter = sqmParameter.copy();
+		domainParameterXref.addExpansion( domainParam, sqmParameter, arrayParameter, DomainParameterXref.ARRAY_OF_VALUES );
+		final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+		jdbcParametersForSqm.add( jdbcParameter );
+		jdbcParameters.addParameters( jdbcParametersForSqm );
+		jdbcParamsBySqmParam.computeIfAbsent( arrayParameter, k -> new ArrayList<>( 1 ) ).add( jdbcParametersForSqm );
+		return new InArrayPredicate( testExpression, jdbcParameter, getBooleanType() );
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
@@ -8814,18 +8886,17 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		final Collection<?> bindValues = domainParamBinding.getBindValues();
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
+		domainParameterXref.addExpandedValueCount( domainParam, bindValuesSize );
 
-		boolean first = true;
 		for ( int i = 0; i < bindValuesSize; i++ ) {
 			final SqmParameter<?> sqmParamToConsume;
 			// for each bind value create an "expansion"
-			if ( first ) {
+			if ( i == 0 ) {
 				sqmParamToConsume = sqmParameter;
-				first = false;
 			}
 			else {
 				sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, i );
 			}
 			final Expression expression = consumeSingleSqmParameter( sqmParamToConsume );
 			result.add( expression );
@@ -16,6 +16,7 @@ import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SemanticQueryWalker;
 import org.hibernate.query.sqm.SqmExpressible;
+import org.hibernate.query.sqm.internal.SqmStructuralKey;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
 
 /**
@@ -149,7 +150,13 @@ public class JpaCriteriaParameter<T>
 	@Override
 	public void appendHqlString(StringBuilder sb) {
 		sb.append( ':' );
-		sb.append( getName() );
+		if ( getName() == null && SqmStructuralKey.isRendering() ) {
+			// unnamed parameters must be told apart in the key
+			sb.append( "param_" ).append( System.identityHashCode( this ) );
+		}
+		else {
+			sb.append( getName() );
+		}
 	}
 
 	@Override
@@ -128,7 +128,7 @@ public abstract class SqmFunction<T> extends AbstractSqmExpression<T>
 						sb.append( ' ' );
 						arguments.get( 1 ).appendHqlString( sb );
 						sb.append( " from " );
-						arguments.get( 3 ).appendHqlString( sb );
+						arguments.get( 2 ).appendHqlString( sb );
 						break;
 				}
 				sb.append( ')' );
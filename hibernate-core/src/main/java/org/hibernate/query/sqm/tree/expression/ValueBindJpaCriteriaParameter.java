@@ -8,6 +8,7 @@ package org.hibernate.query.sqm.tree.expression;
 
 import org.hibernate.query.BindableType;
 import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.internal.SqmStructuralKey;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
 
 /**
@@ -47,7 +48,13 @@ public class ValueBindJpaCriteriaParameter<T> extends JpaCriteriaParameter<T>{
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
-		sb.append( value );
+		if ( SqmStructuralKey.isRendering() ) {
+			// the bound value is not part of the structure
+			super.appendHqlString( sb );
+		}
+		else {
+			sb.append( value );
+		}
 	}
 
 	@Override
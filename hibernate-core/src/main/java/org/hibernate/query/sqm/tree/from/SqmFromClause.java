@@ -14,6 +14,8 @@ import java.util.function.Consumer;
 
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.domain.SqmCteRoot;
+import org.hibernate.query.sqm.tree.domain.SqmDerivedRoot;
 import org.hibernate.query.sqm.tree.domain.SqmTreatedPath;
 
 /**
@@ -107,7 +109,15 @@ public class SqmFromClause implements Serializable {
 				}
 			}
 			else {
-				sb.append( root.getEntityName() );
+				if ( root instanceof SqmDerivedRoot<?> derivedRoot ) {
+					derivedRoot.getQueryPart().appendHqlString( sb );
+				}
+				else if ( root instanceof SqmCteRoot<?> cteRoot ) {
+					sb.append( cteRoot.getCte().getCteTable().getCteName() );
+				}
+				else {
+					sb.append( root.getEntityName() );
+				}
 				sb.append( ' ' ).append( root.resolveAlias() );
 				appendJoins( root, sb );
 				appendTreatJoins( root, sb );
@@ -136,6 +146,9 @@ public class SqmFromClause implements Serializable {
 					break;
 			}
 			if ( sqmJoin instanceof SqmAttributeJoin<?, ?> attributeJoin ) {
+				if ( attributeJoin.isFetched() ) {
+					sb.append( "fetch " );
+				}
 				if ( sqmFrom instanceof SqmTreatedPath<?, ?> treatedPath ) {
 					sb.append( "treat(" );
 					sb.append( treatedPath.getWrappedPath().resolveAlias() );
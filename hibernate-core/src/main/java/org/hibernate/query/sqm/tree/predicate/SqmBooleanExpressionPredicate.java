@@ -80,7 +80,14 @@ public class SqmBooleanExpressionPredicate extends AbstractNegatableSqmPredicate
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
-		booleanExpression.appendHqlString( sb );
+		if ( isNegated() ) {
+			sb.append( "not (" );
+			booleanExpression.appendHqlString( sb );
+			sb.append( ')' );
+		}
+		else {
+			booleanExpression.appendHqlString( sb );
+		}
 	}
 
 	@Override
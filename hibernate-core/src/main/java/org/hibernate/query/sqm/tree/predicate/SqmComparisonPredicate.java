@@ -111,10 +111,16 @@ public class SqmComparisonPredicate extends AbstractNegatableSqmPredicate {
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
+		if ( isNegated() ) {
+			sb.append( "not (" );
+		}
 		leftHandExpression.appendHqlString( sb );
 		sb.append( ' ' );
 		sb.append( operator.sqlText() );
 		sb.append( ' ' );
 		rightHandExpression.appendHqlString( sb );
+		if ( isNegated() ) {
+			sb.append( ')' );
+		}
 	}
 }
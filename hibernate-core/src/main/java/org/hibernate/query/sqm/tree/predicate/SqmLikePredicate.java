@@ -133,7 +133,7 @@ public class SqmLikePredicate extends AbstractNegatableSqmPredicate {
 		if ( isNegated() ) {
 			sb.append( " not" );
 		}
-		sb.append( " like " );
+		sb.append( isCaseSensitive ? " like " : " ilike " );
 		pattern.appendHqlString( sb );
 		if ( escapeCharacter != null ) {
 			sb.append( " escape " );
@@ -139,10 +139,17 @@ public class SqmJpaCompoundSelection<T>
 
 	@Override
 	public void appendHqlString(StringBuilder sb) {
-		selectableNodes.get( 0 ).appendHqlString( sb );
+		appendSelectableNode( selectableNodes.get( 0 ), sb );
 		for ( int i = 1; i < selectableNodes.size(); i++ ) {
 			sb.append(", ");
-			selectableNodes.get( i ).appendHqlString( sb );
+			appendSelectableNode( selectableNodes.get( i ), sb );
+		}
+	}
+
+	private static void appendSelectableNode(SqmSelectableNode<?> selectableNode, StringBuilder sb) {
+		selectableNode.appendHqlString( sb );
+		if ( selectableNode.getAlias() != null ) {
+			sb.append( " as " ).append( selectableNode.getAlias() );
 		}
 	}
 
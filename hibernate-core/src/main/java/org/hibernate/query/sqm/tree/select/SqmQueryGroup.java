@@ -240,7 +240,10 @@ public class SqmQueryGroup<T> extends SqmQueryPart<T> implements JpaQueryGroup<T
 	}
 
 	private static void appendQueryPart(SqmQueryPart<?> queryPart, StringBuilder sb) {
-		final boolean needsParenthesis = !queryPart.isSimpleQueryPart();
+		final boolean needsParenthesis = !queryPart.isSimpleQueryPart()
+				|| queryPart.getOrderByClause() != null && !queryPart.getOrderByClause().getSortSpecifications().isEmpty()
+				|| queryPart.getOffsetExpression() != null
+				|| queryPart.getFetchExpression() != null;
 		if ( needsParenthesis ) {
 			sb.append( '(' );
 		}
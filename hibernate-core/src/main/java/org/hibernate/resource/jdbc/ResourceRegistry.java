@@ -43,6 +43,15 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Signal that the execution of a previously registered statement failed, so
+	 * that the statement is closed, and not kept for reuse, when it is released.
+	 *
+	 * @param statement The statement which failed.
+	 */
+	default void executionFailed(Statement statement) {
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p>
@@ -68,19 +68,27 @@ public abstract class AbstractLogicalConnectionImplementor implements LogicalCon
 
 	@Override
 	public void begin() {
+		if ( !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
+			disableAutoCommit( getConnectionForTransactionManagement() );
+		}
+		markActive();
+	}
+
+	protected void disableAutoCommit(Connection connection) {
 		try {
-			if ( !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
-				log.trace( "Preparing to begin transaction via JDBC Connection.setAutoCommit(false)" );
-				getConnectionForTransactionManagement().setAutoCommit( false );
-				log.trace( "Transaction begun via JDBC Connection.setAutoCommit(false)" );
-			}
-			status = TransactionStatus.ACTIVE;
+			log.trace( "Preparing to begin transaction via JDBC Connection.setAutoCommit(false)" );
+			connection.setAutoCommit( false );
+			log.trace( "Transaction begun via JDBC Connection.setAutoCommit(false)" );
 		}
 		catch( SQLException e ) {
 			throw new TransactionException( "JDBC begin transaction failed: ", e );
 		}
 	}
 
+	protected void markActive() {
+		status = TransactionStatus.ACTIVE;
+	}
+
 	@Override
 	public void commit() {
 		try {
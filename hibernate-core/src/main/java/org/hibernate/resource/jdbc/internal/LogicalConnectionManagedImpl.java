@@ -50,6 +50,9 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private boolean closed;
 
 	private final boolean providerDisablesAutoCommit;
+	private final boolean delayTransactionBegin;
+	// a transaction was begun, but not yet on the physical connection
+	private boolean transactionBeginDelayed;
 
 	public LogicalConnectionManagedImpl(
 			JdbcConnectionAccess jdbcConnectionAccess,
@@ -72,6 +75,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 
 		this.providerDisablesAutoCommit = jdbcSessionContext.doesConnectionProviderDisableAutoCommit();
+		this.delayTransactionBegin = jdbcSessionContext.isDelayTransactionBeginEnabled();
 		if ( providerDisablesAutoCommit ) {
 			log.debug(
 					"`hibernate.connection.provider_disables_autocommit` was enabled.  This setting should only be " +
@@ -132,6 +136,12 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			finally {
 				jdbcEventHandler.jdbcConnectionAcquisitionEnd( physicalConnection );
 			}
+			if ( transactionBeginDelayed ) {
+				transactionBeginDelayed = false;
+				log.debug( "Beginning delayed JDBC transaction on acquired JDBC Connection" );
+				initiallyAutoCommit = determineInitialAutoCommitMode( physicalConnection );
+				disableAutoCommit( physicalConnection );
+			}
 		}
 		return physicalConnection;
 	}
@@ -292,13 +302,21 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	@Override
 	public void begin() {
-		initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
-				&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
-		super.begin();
+		if ( delayTransactionBegin && physicalConnection == null && !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
+			// auto-commit is disabled once a connection is acquired
+			transactionBeginDelayed = true;
+			markActive();
+		}
+		else {
+			initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
+					&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
+			super.begin();
+		}
 	}
 
 	@Override
 	protected void afterCompletion() {
+		transactionBeginDelayed = false;
 		resetConnection( initiallyAutoCommit );
 		initiallyAutoCommit = false;
 
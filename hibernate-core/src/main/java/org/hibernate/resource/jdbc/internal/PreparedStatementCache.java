@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded cache of the idle prepared statements of a logical connection, for
+ * JDBC drivers and connection pools which do not cache prepared statements.
+ * <p>
+ * A statement which was prepared with a {@link Key} is tracked while it is in use,
+ * and is {@linkplain #offer offered} to the cache instead of being closed when it
+ * is released by the {@link ResourceRegistryStandardImpl}. The least recently used
+ * idle statement is closed once the cache is full. All idle statements are closed
+ * when the resources of the logical connection are released, which happens at the
+ * latest when the physical connection is released.
+ * <p>
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, Entry> idleStatements;
+	private final IdentityHashMap<Statement, Entry> statementsInUse = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Statement cache size must be positive: " + maxSize );
+		}
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if ( size() > PreparedStatementCache.this.maxSize ) {
+					close( eldest.getValue().statement );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Take an idle statement with the given key out of the cache.
+	 *
+	 * @return the statement, or {@code null} if there is no idle statement with the key
+	 */
+	public @Nullable PreparedStatement take(Key key) {
+		final Entry entry = idleStatements.remove( key );
+		if ( entry == null ) {
+			return null;
+		}
+		statementsInUse.put( entry.statement, entry );
+		return entry.statement;
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it is cached when it is released.
+	 */
+	public void track(PreparedStatement statement, Key key) {
+		try {
+			statementsInUse.put( statement, new Entry( key, statement, statement.getFetchSize() ) );
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to track JDBC statement for reuse [%s]", e.getMessage() );
+		}
+	}
+
+	/**
+	 * Offer a released statement to the cache, after resetting its state.
+	 *
+	 * @return {@code false} if the statement was not cached and has to be closed
+	 * by the caller, because it is not tracked, because its state could not be
+	 * reset, or because there is already an idle statement with the same key
+	 */
+	public boolean offer(Statement statement) {
+		final Entry entry = statementsInUse.remove( statement );
+		if ( entry == null || idleStatements.containsKey( entry.key ) ) {
+			return false;
+		}
+		final PreparedStatement preparedStatement = entry.statement;
+		try {
+			preparedStatement.clearParameters();
+			preparedStatement.clearBatch();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != entry.fetchSize ) {
+				preparedStatement.setFetchSize( entry.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+		idleStatements.put( entry.key, entry );
+		return true;
+	}
+
+	/**
+	 * Stop tracking the given statement, so that it is closed when it is released.
+	 */
+	public void discard(Statement statement) {
+		statementsInUse.remove( statement );
+	}
+
+	/**
+	 * The number of idle statements.
+	 */
+	public int size() {
+		return idleStatements.size();
+	}
+
+	/**
+	 * Close all idle statements and forget about the statements in use, which are
+	 * closed by the {@link ResourceRegistryStandardImpl}.
+	 */
+	public void clear() {
+		idleStatements.forEach( (key, entry) -> close( entry.statement ) );
+		idleStatements.clear();
+		statementsInUse.clear();
+	}
+
+	private static void close(PreparedStatement statement) {
+		log.tracef( "Closing cached prepared statement [%s]", statement );
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+		catch (Exception e) {
+			// try to handle general errors more elegantly
+			log.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	private record Entry(Key key, PreparedStatement statement, int fetchSize) {
+	}
+
+	/**
+	 * Identifies statements which were prepared from the same SQL with the same options.
+	 *
+	 * @param sql the SQL of the statement
+	 * @param resultSetType the type of the result set, or {@code 0} if unspecified
+	 * @param autoGeneratedKeys the flag for auto-generated keys, or {@code 0} if unspecified
+	 * @param keyColumnNames the names of the generated key columns, or {@code null} if unspecified
+	 */
+	public record Key(String sql, int resultSetType, int autoGeneratedKeys, @Nullable List<String> keyColumnNames) {
+
+		public static Key forStatement(String sql) {
+			return new Key( sql, 0, 0, null );
+		}
+
+		public static Key forQuery(String sql, int resultSetType) {
+			return new Key( sql, resultSetType, 0, null );
+		}
+
+		public static Key forGeneratedKeys(String sql, int autoGeneratedKeys) {
+			return new Key( sql, 0, autoGeneratedKeys, null );
+		}
+
+		public static Key forGeneratedKeys(String sql, String[] keyColumnNames) {
+			return new Key( sql, 0, 0, List.of( keyColumnNames ) );
+		}
+	}
+}
@@ -50,6 +50,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcEventHandler jdbcEventHandler;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -65,7 +66,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, null );
+	}
+
+	/**
+	 * @param statementCache the cache to which released prepared statements are offered
+	 * instead of being closed, or {@code null} if released statements are always closed
+	 */
+	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler, PreparedStatementCache statementCache) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -105,13 +115,22 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.offer( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	@Override
+	public void executionFailed(Statement statement) {
+		if ( statementCache != null ) {
+			statementCache.discard( statement );
+		}
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -334,6 +353,10 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( statementCache != null ) {
+			statementCache.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
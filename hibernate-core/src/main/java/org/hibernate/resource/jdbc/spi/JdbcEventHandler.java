@@ -94,6 +94,18 @@ public class JdbcEventHandler {
 		}
 	}
 
+	public void jdbcPreparedStatementCacheHit() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+	}
+
+	public void jdbcPreparedStatementCacheMiss() {
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheMiss();
+		}
+	}
+
 	public void jdbcExecuteStatementStart() {
 		if ( sessionListener != null ) {
 			sessionListener.jdbcExecuteStatementStart();
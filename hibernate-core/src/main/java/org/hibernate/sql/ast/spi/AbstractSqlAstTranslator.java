@@ -18,6 +18,7 @@ import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Consumer;
@@ -6939,7 +6940,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 	@Override
 	public void visitColumnReference(ColumnReference columnReference) {
 		final String qualifier = determineColumnReferenceQualifier( columnReference );
-		if ( columnReference.isColumnExpressionFormula() ) {
+		if ( columnReference.isColumnExpressionFormula() && !Objects.equals( qualifier, columnReference.getQualifier() ) ) {
 			// For formulas, we have to replace the qualifier as the alias was already rendered into the formula
 			// This is fine for now as this is only temporary anyway until we render aliases for table references
 			final String replacement;
@@ -7671,23 +7672,31 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		if ( value instanceof Iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, ( (Iterable<?>) value ).iterator() );
+			processIterableFilterParameterValue( parameter, ( (Iterable<?>) value ).iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, value, -1 );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(FilterFragmentParameter parameter, Object value, int valueIndex) {
+		// the value is resolved again when binding, so the translation can be reused for other values
+		visitParameterAsParameter( new FilterJdbcParameter(
+				parameter.getValueMapping(),
+				value,
+				parameter.getFilterName(),
+				parameter.getParameterName(),
+				valueIndex
+		) );
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
+	private void processIterableFilterParameterValue(FilterFragmentParameter parameter, Iterator<?> iterator) {
+		int valueIndex = 0;
 		while ( iterator.hasNext() ) {
 			final Object element = iterator.next();
-			processSingularFilterParameterValue( valueMapping, element );
+			processSingularFilterParameterValue( parameter, element, valueIndex++ );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
@@ -7771,7 +7780,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		int inExprLimit = dialect.getInExpressionCountLimit();
 
 		if ( getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
-			bindValueCountWithPadding = addPadding( bindValueCount, inExprLimit );
+			bindValueCountWithPadding = determineBindValueCountWithPadding( bindValueCount, inExprLimit );
 		}
 
 		final boolean parenthesis = !inListPredicate.isNegated()
@@ -7833,7 +7842,13 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		appendSql( OPEN_PARENTHESIS );
 	}
 
-	private static int addPadding(int bindValueCount, int inExprLimit) {
+	/**
+	 * The number of parameters to render for an in list of the given size when
+	 * {@linkplain org.hibernate.boot.spi.SessionFactoryOptions#inClauseParameterPaddingEnabled() padding}
+	 * is enabled, that is, the next power of two, or the next power of two multiple
+	 * of the in expression count limit of the dialect.
+	 */
+	public static int determineBindValueCountWithPadding(int bindValueCount, int inExprLimit) {
 		int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
 		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
 			return ceilingPowerOfTwo;
@@ -198,7 +198,36 @@ public class ColumnReference implements Expression, Assignable {
 	}
 
 	public void appendReadExpression(SqlAppender appender, String qualifier) {
-		appendReadExpression( qualifier, appender::appendSql );
+		if ( isFormula ) {
+			appender.appendSql( columnExpression );
+		}
+		else if ( readExpression != null ) {
+			// append the fragments of the read expression instead of creating a new string
+			// with the placeholders replaced, since this is done for every rendering
+			int start = 0;
+			int idx;
+			while ( ( idx = readExpression.indexOf( TEMPLATE, start ) ) != -1 ) {
+				appender.append( readExpression, start, idx );
+				start = idx + TEMPLATE.length();
+				if ( qualifier != null ) {
+					appender.appendSql( qualifier );
+				}
+				else if ( start < readExpression.length() && readExpression.charAt( start ) == '.' ) {
+					start++;
+				}
+				else {
+					appender.appendSql( TEMPLATE );
+				}
+			}
+			appender.append( readExpression, start, readExpression.length() );
+		}
+		else {
+			if ( qualifier != null ) {
+				appender.appendSql( qualifier );
+				appender.appendSql( '.' );
+			}
+			appender.appendSql( columnExpression );
+		}
 	}
 
 	public void appendColumnForWrite(SqlAppender appender) {
@@ -8,7 +8,6 @@ package org.hibernate.sql.ast.tree.predicate;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Supplier;
 
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.internal.FilterImpl;
@@ -117,7 +116,7 @@ public class FilterPredicate implements Predicate {
 				parameters = CollectionHelper.arrayList( parameterNames.size() );
 				for ( int i = 0; i < parameterNames.size(); i++ ) {
 					final String paramName = parameterNames.get( i );
-					final Object paramValue = retrieveParamValue(filter, paramName);
+					final Object paramValue = filter.resolveParameterValue( paramName );
 					final FilterDefinition filterDefinition = filter.getFilterDefinition();
 					final JdbcMapping jdbcMapping = filterDefinition.getParameterJdbcMapping( paramName );
 
@@ -156,15 +155,5 @@ public class FilterPredicate implements Predicate {
 		public boolean isEmpty() {
 			return false;
 		}
-
-		private Object retrieveParamValue(FilterImpl filter, String paramName) {
-			Object value = filter.getParameter(paramName);
-			if (value != null) {
-				return value;
-			}
-
-			final Supplier<?> filterParamResolver = filter.getParameterResolver( paramName );
-			return filterParamResolver == null ? null : filterParamResolver.get();
-		}
 	}
 }
@@ -83,6 +83,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
+				session.getJdbcConnectionAccess().beforeMutation();
 				session.getEventListenerManager().jdbcExecuteStatementStart();
 				final EventManager eventManager = session.getEventManager();
 				final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
@@ -91,6 +92,10 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					expectationCheck.accept( rows, preparedStatement );
 					return rows;
 				}
+				catch (SQLException e) {
+					logicalConnection.getResourceRegistry().executionFailed( preparedStatement );
+					throw e;
+				}
 				finally {
 					eventManager.completeJdbcPreparedStatementExecutionEvent( jdbcPreparedStatementExecutionEvent, finalSql );
 					session.getEventListenerManager().jdbcExecuteStatementEnd();
@@ -6,33 +6,90 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.AssertionFailure;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static java.lang.invoke.MethodType.methodType;
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.constructorHandle;
+
 /**
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
-	private final Constructor<R> targetConstructor;
+	private static final MethodHandle ASSEMBLE;
+	private static final MethodHandle INSTANTIATION_FAILED;
+
+	static {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			ASSEMBLE = lookup.findVirtual(
+					DomainResultAssembler.class,
+					"assemble",
+					methodType( Object.class, RowProcessingState.class )
+			);
+			INSTANTIATION_FAILED = lookup.findStatic(
+					DynamicInstantiationAssemblerConstructorImpl.class,
+					"instantiationFailed",
+					methodType( Object.class, Class.class, Throwable.class )
+			);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new AssertionFailure( "Could not resolve method handles", e );
+		}
+	}
+
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
+	private final MethodHandle instantiator;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
-		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
+		this.instantiator = instantiator( targetConstructor, argumentReaders );
+	}
+
+	/**
+	 * Binds the argument readers to the constructor, so that a row is assembled by a
+	 * single method handle invocation which passes the value of each reader directly
+	 * to the constructor, without collecting the arguments into an array.
+	 *
+	 * @return a method handle of type {@code (RowProcessingState)Object}
+	 */
+	private static MethodHandle instantiator(Constructor<?> constructor, List<ArgumentReader<?>> argumentReaders) {
+		final int numberOfArgs = argumentReaders.size();
+		final MethodHandle[] argumentHandles = new MethodHandle[numberOfArgs];
+		for ( int i = 0; i < numberOfArgs; i++ ) {
+			argumentHandles[i] = ASSEMBLE.bindTo( argumentReaders.get( i ) );
+		}
+		// only exceptions thrown by the constructor are wrapped, not those of the readers
+		final MethodHandle constructorHandle = MethodHandles.catchException(
+				constructorHandle( constructor ),
+				Throwable.class,
+				INSTANTIATION_FAILED.bindTo( constructor.getDeclaringClass() )
+		);
+		// every argument handle is passed the same row processing state
+		return MethodHandles.permuteArguments(
+				MethodHandles.filterArguments( constructorHandle, 0, argumentHandles ),
+				methodType( Object.class, RowProcessingState.class ),
+				new int[numberOfArgs]
+		);
+	}
+
+	private static Object instantiationFailed(Class<?> type, Throwable cause) {
+		throw new InstantiationException( "Error instantiating class '" + type.getName() + "'", cause );
 	}
 
 	@Override
@@ -41,24 +98,19 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public R assemble(RowProcessingState rowProcessingState) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
-		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState );
-		}
-
+		final Object instance;
 		try {
-			return targetConstructor.newInstance( args );
+			instance = instantiator.invokeExact( rowProcessingState );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+		catch (RuntimeException | Error e) {
+			throw e;
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		catch (Throwable e) {
+			throw new AssertionFailure( "Unexpected checked exception", e );
 		}
+		return (R) instance;
 	}
 
 	@Override
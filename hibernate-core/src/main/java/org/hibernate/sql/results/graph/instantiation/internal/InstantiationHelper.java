@@ -6,17 +6,21 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import org.hibernate.InstantiationException;
 import org.hibernate.internal.util.beans.BeanInfoHelper;
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.List;
 
+import static java.lang.invoke.MethodType.genericMethodType;
 import static org.hibernate.query.sqm.tree.expression.Compatibility.areAssignmentCompatible;
 
 /**
@@ -97,6 +101,22 @@ public class InstantiationHelper {
 		}
 	}
 
+	/**
+	 * A method handle for the given {@linkplain Constructor#setAccessible accessible}
+	 * constructor, which accepts its arguments as {@code Object}s, unboxing primitive
+	 * arguments, and returns the new instance as an {@code Object}.
+	 */
+	public static MethodHandle constructorHandle(Constructor<?> constructor) {
+		try {
+			return MethodHandles.lookup().unreflectConstructor( constructor )
+					.asFixedArity()
+					.asType( genericMethodType( constructor.getParameterCount() ) );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Cannot access constructor", constructor.getDeclaringClass(), e );
+		}
+	}
+
 	static Field findField(Class<?> declaringClass, String name, Class<?> javaType) {
 		try {
 			final Field field = declaringClass.getDeclaredField( name );
@@ -11,12 +11,15 @@ import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
 
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.constructorHandle;
+
 /**
  * {@link RowTransformer} instantiating an arbitrary class
  *
@@ -24,7 +27,7 @@ import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
  */
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
-	private final Constructor<T> constructor;
+	private final MethodHandle constructor;
 
 	public RowTransformerConstructorImpl(Class<T> type, TupleMetadata tupleMetadata) {
 		this.type = type;
@@ -34,8 +37,10 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 			sig[i] = resolveElementJavaType( elements.get( i ) );
 		}
 		try {
-			constructor = type.getDeclaredConstructor( sig );
-			constructor.setAccessible( true );
+			final Constructor<T> declaredConstructor = type.getDeclaredConstructor( sig );
+			declaredConstructor.setAccessible( true );
+			// accepts the row array itself, and spreads it over the parameters
+			constructor = constructorHandle( declaredConstructor ).asSpreader( Object[].class, sig.length );
 		}
 		catch (Exception e) {
 			//TODO try again with primitive types
@@ -56,12 +61,14 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 
 	@Override
 	public T transformRow(Object[] row) {
+		final Object instance;
 		try {
-			return constructor.newInstance( row );
+			instance = constructor.invokeExact( row );
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
 		}
+		return type.cast( instance );
 	}
 
 	@Override
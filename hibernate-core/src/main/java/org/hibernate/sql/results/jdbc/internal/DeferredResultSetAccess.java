@@ -260,6 +260,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 		catch (SQLException e) {
 			try {
+				logicalConnection.getResourceRegistry().executionFailed( preparedStatement );
 				release();
 			}
 			catch (RuntimeException e2) {
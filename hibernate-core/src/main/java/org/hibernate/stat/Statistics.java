@@ -380,6 +380,22 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements that were reused from the
+	 * statement cache of a JDBC connection, instead of being prepared.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The number of prepared statements that were <em>not</em> found
+	 * in the statement cache of a JDBC connection.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	long getPreparedStatementCacheMissCount();
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
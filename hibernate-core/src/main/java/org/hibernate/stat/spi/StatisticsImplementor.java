@@ -269,6 +269,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an idle prepared statement was reused from the
+	 * statement cache of a JDBC connection.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a statement had to be prepared because there
+	 * was no idle prepared statement in the statement cache of a JDBC connection.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -17,6 +17,7 @@ import org.hibernate.mapping.Index;
 import org.hibernate.mapping.Selectable;
 import org.hibernate.tool.schema.spi.Exporter;
 
+import static org.hibernate.internal.util.StringHelper.isNotEmpty;
 import static org.hibernate.internal.util.StringHelper.qualify;
 
 /**
@@ -43,10 +44,16 @@ public class StandardIndexExporter implements Exporter<Index> {
 				.append( " " )
 				.append( indexName( index, context, metadata ) )
 				.append( " on " )
-				.append( context.format( index.getTable().getQualifiedTableName() ) )
-				.append( " (" );
+				.append( context.format( index.getTable().getQualifiedTableName() ) );
+		if ( isNotEmpty( index.getType() ) ) {
+			createIndex.append( " using " ).append( index.getType() );
+		}
+		createIndex.append( " (" );
 		appendColumnList( index, createIndex );
 		createIndex.append( ")" );
+		if ( isNotEmpty( index.getOptions() ) ) {
+			createIndex.append( " " ).append( index.getOptions() );
+		}
 		return new String[] { createIndex.toString() };
 	}
 
@@ -111,7 +111,7 @@ public class ArrayJavaType<T> extends AbstractArrayJavaType<T[], T> {
 
 	@Override
 	public boolean areEqual(T[] one, T[] another) {
-		if ( one == null && another == null ) {
+		if ( one == another ) {
 			return true;
 		}
 		if ( one == null || another == null ) {
@@ -401,6 +401,10 @@ public class ArrayJavaType<T> extends AbstractArrayJavaType<T[], T> {
 			if ( value == null ) {
 				return null;
 			}
+			if ( !componentPlan.isMutable() ) {
+				// the elements may be shared with the copy
+				return value.clone();
+			}
 			//noinspection unchecked
 			T[] copy = (T[]) Array.newInstance( componentClass, value.length );
 			for ( int i = 0; i < value.length; i ++ ) {
@@ -19,7 +19,7 @@ import org.hibernate.engine.jdbc.BinaryStream;
 import org.hibernate.engine.jdbc.BlobImplementer;
 import org.hibernate.engine.jdbc.BlobProxy;
 import org.hibernate.engine.jdbc.WrappedBlob;
-import org.hibernate.engine.jdbc.internal.BinaryStreamImpl;
+import org.hibernate.engine.jdbc.internal.StreamBackedBinaryStream;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
@@ -117,8 +117,8 @@ public class BlobJavaType extends AbstractClassJavaType<Blob> {
 					return (X) ( (BlobImplementer) value ).getUnderlyingStream();
 				}
 				else {
-					// otherwise we need to build a BinaryStream...
-					return (X) new BinaryStreamImpl( DataHelper.extractBytes( value.getBinaryStream() ) );
+					// otherwise we need to build a BinaryStream, which reads the Blob lazily
+					return (X) new StreamBackedBinaryStream( value.getBinaryStream(), value.length() );
 				}
 			}
 			else if ( byte[].class.isAssignableFrom( type )) {
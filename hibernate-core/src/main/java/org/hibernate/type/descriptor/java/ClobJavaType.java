@@ -91,7 +91,7 @@ public class ClobJavaType extends AbstractClassJavaType<Clob> {
 				}
 				else {
 					// otherwise we need to build a CharacterStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if ( String.class.isAssignableFrom( type ) ) {
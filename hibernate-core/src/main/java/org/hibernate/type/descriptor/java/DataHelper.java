@@ -159,17 +159,10 @@ public final class DataHelper {
 			return ( (BinaryStream ) inputStream ).getBytes();
 		}
 
-		// read the stream contents into a buffer and return the complete byte[]
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+		// read the stream contents into a buffer and return the complete byte[],
+		// which avoids the additional copies made by a ByteArrayOutputStream
 		try {
-			byte[] buffer = new byte[BUFFER_SIZE];
-			while (true) {
-				int amountRead = inputStream.read( buffer );
-				if ( amountRead == -1 ) {
-					break;
-				}
-				outputStream.write( buffer, 0, amountRead );
-			}
+			return inputStream.readAllBytes();
 		}
 		catch ( IOException ioe ) {
 			throw new HibernateException( "IOException occurred reading a binary value", ioe );
@@ -181,14 +174,7 @@ public final class DataHelper {
 			catch ( IOException e ) {
 				LOG.unableToCloseInputStream( e );
 			}
-			try {
-				outputStream.close();
-			}
-			catch ( IOException e ) {
-				LOG.unableToCloseOutputStream( e );
-			}
 		}
-		return outputStream.toByteArray();
 	}
 
 	/**
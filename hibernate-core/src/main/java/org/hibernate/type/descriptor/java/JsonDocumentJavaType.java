@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+import org.hibernate.type.format.JsonDocument;
+
+/**
+ * Descriptor for {@link JsonDocument} handling.
+ * <p>
+ * The JSON text is passed to and from the JDBC driver as is, and two documents
+ * are equal if their JSON text is, so that a document which was not replaced
+ * is neither dirty nor serialized again.
+ */
+public class JsonDocumentJavaType extends AbstractClassJavaType<JsonDocument> {
+	private static final long serialVersionUID = 1L;
+
+	public static final JsonDocumentJavaType INSTANCE = new JsonDocumentJavaType();
+
+	public JsonDocumentJavaType() {
+		super( JsonDocument.class, new JsonDocumentMutabilityPlan() );
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators context) {
+		return context.getJdbcType( SqlTypes.JSON );
+	}
+
+	@Override
+	public boolean useObjectEqualsHashCode() {
+		return true;
+	}
+
+	@Override
+	public String toString(JsonDocument value) {
+		return value.getJson();
+	}
+
+	@Override
+	public JsonDocument fromString(CharSequence string) {
+		return JsonDocument.of( string.toString() );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <X> X unwrap(JsonDocument value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( JsonDocument.class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		if ( String.class.isAssignableFrom( type ) ) {
+			return (X) value.getJson();
+		}
+		if ( byte[].class.isAssignableFrom( type ) ) {
+			return (X) value.getJson().getBytes( StandardCharsets.UTF_8 );
+		}
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> JsonDocument wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof JsonDocument document ) {
+			return document;
+		}
+		if ( value instanceof CharSequence string ) {
+			return JsonDocument.of( string.toString(), options );
+		}
+		if ( value instanceof byte[] bytes ) {
+			return JsonDocument.of( new String( bytes, StandardCharsets.UTF_8 ), options );
+		}
+		throw unknownWrap( value.getClass() );
+	}
+
+	private static class JsonDocumentMutabilityPlan extends ImmutableMutabilityPlan<JsonDocument> {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Serializable disassemble(JsonDocument value, SharedSessionContract session) {
+			return value == null ? null : value.getJson();
+		}
+
+		@Override
+		public JsonDocument assemble(Serializable cached, SharedSessionContract session) {
+			return cached == null
+					? null
+					: JsonDocument.of( (String) cached, ( (SessionFactoryImplementor) session.getFactory() ).getWrapperOptions() );
+		}
+	}
+}
@@ -100,7 +100,7 @@ public class NClobJavaType extends AbstractClassJavaType<NClob> {
 				}
 				else {
 					// otherwise we need to build a BinaryStream...
-					return (X) new CharacterStreamImpl( DataHelper.extractString( value.getCharacterStream() ) );
+					return (X) new CharacterStreamImpl( value.getCharacterStream(), value.length() );
 				}
 			}
 			else if (NClob.class.isAssignableFrom( type )) {
@@ -48,6 +48,7 @@ import org.hibernate.type.descriptor.java.ObjectJavaType;
 import org.hibernate.type.descriptor.java.JdbcDateJavaType;
 import org.hibernate.type.descriptor.java.JdbcTimeJavaType;
 import org.hibernate.type.descriptor.java.JdbcTimestampJavaType;
+import org.hibernate.type.descriptor.java.JsonDocumentJavaType;
 import org.hibernate.type.descriptor.java.LocalDateJavaType;
 import org.hibernate.type.descriptor.java.LocalDateTimeJavaType;
 import org.hibernate.type.descriptor.java.LocalTimeJavaType;
@@ -151,6 +152,7 @@ public class JavaTypeBaseline {
 		target.addBaselineDescriptor( UrlJavaType.INSTANCE );
 		target.addBaselineDescriptor( UUIDJavaType.INSTANCE );
 		target.addBaselineDescriptor( InetAddressJavaType.INSTANCE );
+		target.addBaselineDescriptor( JsonDocumentJavaType.INSTANCE );
 
 		registerCollectionTypes( target );
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -19,6 +20,7 @@ import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.JsonDocument;
 
 /**
  * Specialized type mapping for {@code JSON} and the JSON SQL data type.
@@ -32,6 +34,8 @@ public class JsonJdbcType implements AggregateJdbcType {
 	public static final JsonJdbcType INSTANCE = new JsonJdbcType( null );
 
 	private final EmbeddableMappingType embeddableMappingType;
+	// created on first use, since the mapping type is not fully initialized yet when this is created
+	private JsonHelper.EmbeddableJsonMapping jsonMapping;
 
 	protected JsonJdbcType(EmbeddableMappingType embeddableMappingType) {
 		this.embeddableMappingType = embeddableMappingType;
@@ -71,18 +75,31 @@ public class JsonJdbcType implements AggregateJdbcType {
 		return embeddableMappingType;
 	}
 
+	private JsonHelper.EmbeddableJsonMapping getJsonMapping() {
+		JsonHelper.EmbeddableJsonMapping jsonMapping = this.jsonMapping;
+		if ( jsonMapping == null ) {
+			jsonMapping = new JsonHelper.EmbeddableJsonMapping( embeddableMappingType );
+			this.jsonMapping = jsonMapping;
+		}
+		return jsonMapping;
+	}
+
 	protected <X> X fromString(String string, JavaType<X> javaType, WrapperOptions options) throws SQLException {
 		if ( string == null ) {
 			return null;
 		}
 		if ( embeddableMappingType != null ) {
 			return JsonHelper.fromString(
-					embeddableMappingType,
+					getJsonMapping(),
 					string,
 					javaType.getJavaTypeClass() != Object[].class,
 					options
 			);
 		}
+		if ( javaType.getJavaTypeClass() == JsonDocument.class ) {
+			// the document keeps the JSON text and decodes it on access
+			return javaType.wrap( string, options );
+		}
 		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().fromString(
 				string,
 				javaType,
@@ -93,18 +110,21 @@ public class JsonJdbcType implements AggregateJdbcType {
 	@Override
 	public Object createJdbcValue(Object domainValue, WrapperOptions options) throws SQLException {
 		assert embeddableMappingType != null;
-		return JsonHelper.toString( embeddableMappingType, domainValue, options );
+		return JsonHelper.toString( getJsonMapping(), domainValue, options );
 	}
 
 	@Override
 	public Object[] extractJdbcValues(Object rawJdbcValue, WrapperOptions options) throws SQLException {
 		assert embeddableMappingType != null;
-		return JsonHelper.fromString( embeddableMappingType, (String) rawJdbcValue, false, options );
+		return JsonHelper.fromString( getJsonMapping(), (String) rawJdbcValue, false, options );
 	}
 
 	protected <X> String toString(X value, JavaType<X> javaType, WrapperOptions options) {
 		if ( embeddableMappingType != null ) {
-			return JsonHelper.toString( embeddableMappingType, value, options );
+			return JsonHelper.toString( getJsonMapping(), value, options );
+		}
+		if ( value instanceof JsonDocument document ) {
+			return document.getJson();
 		}
 		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().toString(
 				value,
@@ -113,6 +133,23 @@ public class JsonJdbcType implements AggregateJdbcType {
 		);
 	}
 
+	/**
+	 * The UTF-8 encoded JSON of the value, for subtypes which bind JSON as binary data.
+	 */
+	protected <X> byte[] toBytes(X value, JavaType<X> javaType, WrapperOptions options) {
+		if ( embeddableMappingType != null ) {
+			return JsonHelper.toString( getJsonMapping(), value, options ).getBytes( StandardCharsets.UTF_8 );
+		}
+		if ( value instanceof JsonDocument document ) {
+			return document.getJson().getBytes( StandardCharsets.UTF_8 );
+		}
+		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().toBytes(
+				value,
+				javaType,
+				options
+		);
+	}
+
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
 		return new BasicBinder<>( javaType, this ) {
@@ -22,6 +22,7 @@ import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.JsonDocument;
 
 /**
  * Specialized type mapping for {@code JSON} and the BLOB SQL data type for Oracle.
@@ -35,6 +36,8 @@ public class OracleJsonBlobJdbcType implements AggregateJdbcType {
 	public static final OracleJsonBlobJdbcType INSTANCE = new OracleJsonBlobJdbcType( null );
 
 	private final EmbeddableMappingType embeddableMappingType;
+	// created on first use, since the mapping type is not fully initialized yet when this is created
+	private JsonHelper.EmbeddableJsonMapping jsonMapping;
 
 	protected OracleJsonBlobJdbcType(EmbeddableMappingType embeddableMappingType) {
 		this.embeddableMappingType = embeddableMappingType;
@@ -79,15 +82,28 @@ public class OracleJsonBlobJdbcType implements AggregateJdbcType {
 		return embeddableMappingType;
 	}
 
+	private JsonHelper.EmbeddableJsonMapping getJsonMapping() {
+		JsonHelper.EmbeddableJsonMapping jsonMapping = this.jsonMapping;
+		if ( jsonMapping == null ) {
+			jsonMapping = new JsonHelper.EmbeddableJsonMapping( embeddableMappingType );
+			this.jsonMapping = jsonMapping;
+		}
+		return jsonMapping;
+	}
+
 	protected <X> X fromString(String string, JavaType<X> javaType, WrapperOptions options) throws SQLException {
 		if ( embeddableMappingType != null ) {
 			return JsonHelper.fromString(
-					embeddableMappingType,
+					getJsonMapping(),
 					string,
 					javaType.getJavaTypeClass() != Object[].class,
 					options
 			);
 		}
+		if ( javaType.getJavaTypeClass() == JsonDocument.class ) {
+			// the document keeps the JSON text and decodes it on access
+			return javaType.wrap( string, options );
+		}
 		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().fromString(
 				string,
 				javaType,
@@ -98,18 +114,21 @@ public class OracleJsonBlobJdbcType implements AggregateJdbcType {
 	@Override
 	public Object createJdbcValue(Object domainValue, WrapperOptions options) throws SQLException {
 		assert embeddableMappingType != null;
-		return JsonHelper.toString( embeddableMappingType, domainValue, options );
+		return JsonHelper.toString( getJsonMapping(), domainValue, options );
 	}
 
 	@Override
 	public Object[] extractJdbcValues(Object rawJdbcValue, WrapperOptions options) throws SQLException {
 		assert embeddableMappingType != null;
-		return JsonHelper.fromString( embeddableMappingType, (String) rawJdbcValue, false, options );
+		return JsonHelper.fromString( getJsonMapping(), (String) rawJdbcValue, false, options );
 	}
 
 	protected <X> String toString(X value, JavaType<X> javaType, WrapperOptions options) {
 		if ( embeddableMappingType != null ) {
-			return JsonHelper.toString( embeddableMappingType, value, options );
+			return JsonHelper.toString( getJsonMapping(), value, options );
+		}
+		if ( value instanceof JsonDocument document ) {
+			return document.getJson();
 		}
 		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().toString(
 				value,
@@ -118,29 +137,44 @@ public class OracleJsonBlobJdbcType implements AggregateJdbcType {
 		);
 	}
 
+	protected <X> byte[] toBytes(X value, JavaType<X> javaType, WrapperOptions options) {
+		if ( embeddableMappingType != null ) {
+			return JsonHelper.toString( getJsonMapping(), value, options ).getBytes( StandardCharsets.UTF_8 );
+		}
+		if ( value instanceof JsonDocument document ) {
+			return document.getJson().getBytes( StandardCharsets.UTF_8 );
+		}
+		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().toBytes(
+				value,
+				javaType,
+				options
+		);
+	}
+
+	protected <X> X fromBytes(byte[] bytes, JavaType<X> javaType, WrapperOptions options) throws SQLException {
+		if ( embeddableMappingType != null || javaType.getJavaTypeClass() == JsonDocument.class ) {
+			return fromString( new String( bytes, StandardCharsets.UTF_8 ), javaType, options );
+		}
+		return options.getSessionFactory().getFastSessionServices().getJsonFormatMapper().fromBytes(
+				bytes,
+				javaType,
+				options
+		);
+	}
+
 	@Override
 	public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
 		return new BasicBinder<>( javaType, this ) {
 			@Override
 			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 					throws SQLException {
-				final String json = OracleJsonBlobJdbcType.this.toString(
-						value,
-						getJavaType(),
-						options
-				);
-				st.setBytes( index, json.getBytes( StandardCharsets.UTF_8 ) );
+				st.setBytes( index, OracleJsonBlobJdbcType.this.toBytes( value, getJavaType(), options ) );
 			}
 
 			@Override
 			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 					throws SQLException {
-				final String json = OracleJsonBlobJdbcType.this.toString(
-						value,
-						getJavaType(),
-						options
-				);
-				st.setBytes( name, json.getBytes( StandardCharsets.UTF_8 ) );
+				st.setBytes( name, OracleJsonBlobJdbcType.this.toBytes( value, getJavaType(), options ) );
 			}
 		};
 	}
@@ -167,11 +201,7 @@ public class OracleJsonBlobJdbcType implements AggregateJdbcType {
 				if ( json == null ) {
 					return null;
 				}
-				return OracleJsonBlobJdbcType.this.fromString(
-						new String( json, StandardCharsets.UTF_8 ),
-						getJavaType(),
-						options
-				);
+				return OracleJsonBlobJdbcType.this.fromBytes( json, getJavaType(), options );
 			}
 		};
 	}
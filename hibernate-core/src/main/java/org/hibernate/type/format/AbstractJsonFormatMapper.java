@@ -10,6 +10,7 @@ import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author Yanming Zhou
@@ -35,7 +36,40 @@ public abstract class AbstractJsonFormatMapper implements FormatMapper {
 		return toString( value, type );
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <T> T fromBytes(byte[] bytes, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		final Type type = javaType.getJavaType();
+		if ( type == String.class || type == Object.class ) {
+			return (T) new String( bytes, StandardCharsets.UTF_8 );
+		}
+		return fromBytes( bytes, type );
+	}
+
+	@Override
+	public final <T> byte[] toBytes(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		final Type type = javaType.getJavaType();
+		if ( type == String.class || type == Object.class ) {
+			return ( (String) value ).getBytes( StandardCharsets.UTF_8 );
+		}
+		return toBytes( value, type );
+	}
+
 	protected abstract <T> T fromString(CharSequence charSequence, Type type);
 
 	protected abstract <T> String toString(T value, Type type);
+
+	/**
+	 * Deserializes an object from UTF-8 encoded bytes, by default by decoding them to a string.
+	 */
+	protected <T> T fromBytes(byte[] bytes, Type type) {
+		return fromString( new String( bytes, StandardCharsets.UTF_8 ), type );
+	}
+
+	/**
+	 * Serializes an object to UTF-8 encoded bytes, by default by encoding its string form.
+	 */
+	protected <T> byte[] toBytes(T value, Type type) {
+		return toString( value, type ).getBytes( StandardCharsets.UTF_8 );
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.type.format;
 
+import java.nio.charset.StandardCharsets;
+
 import org.hibernate.Incubating;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -43,4 +45,20 @@ public interface FormatMapper {
 	 * Serializes the object to a string.
 	 */
 	<T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions);
+
+	/**
+	 * Deserializes an object from the UTF-8 encoded bytes.
+	 * Used for JDBC types which transfer the format as binary data.
+	 */
+	default <T> T fromBytes(byte[] bytes, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		return fromString( new String( bytes, StandardCharsets.UTF_8 ), javaType, wrapperOptions );
+	}
+
+	/**
+	 * Serializes the object to UTF-8 encoded bytes.
+	 * Used for JDBC types which transfer the format as binary data.
+	 */
+	default <T> byte[] toBytes(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+		return toString( value, javaType, wrapperOptions ).getBytes( StandardCharsets.UTF_8 );
+	}
 }
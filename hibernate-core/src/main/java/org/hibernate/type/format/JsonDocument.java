@@ -0,0 +1,395 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.format;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * An immutable JSON document, which is only decoded as far as needed to access
+ * the members which are actually read.
+ * <p>
+ * An attribute of type {@code JsonDocument} is mapped to a JSON column, and its
+ * value holds on to the JSON text read from the database. Members are addressed
+ * by a path of member names separated by {@code .}, and the first access to a
+ * member of an object indexes the positions of all members of that object.
+ * Only the text of a requested member is passed to the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#JSON_FORMAT_MAPPER JSON format mapper}.
+ * <p>
+ * Since the document is immutable, a modification is made by assigning the
+ * document returned by {@link #with(String, Object)}. A document which is not
+ * replaced is never serialized again, and is never considered dirty.
+ * <p>
+ * A document may be read by several threads. A serialized document refers to
+ * its session factory by name, like a serialized session does.
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class JsonDocument implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String json;
+	private final SessionFactoryImplementor sessionFactory;
+	// the positions of the values of members, by path
+	private final transient Map<String, Span> index = new ConcurrentHashMap<>();
+	// the paths of the objects whose members are in the index, with "" for the root
+	private final transient Set<String> indexedObjects = ConcurrentHashMap.newKeySet();
+	private transient Span root;
+
+	private JsonDocument(String json, SessionFactoryImplementor sessionFactory) {
+		this.json = json;
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * Create a document for the given JSON text.
+	 * <p>
+	 * The members of the resulting document may be accessed as JSON text, but not
+	 * decoded to Java values, until the document was read back from the database.
+	 */
+	public static JsonDocument of(String json) {
+		return new JsonDocument( json, null );
+	}
+
+	/**
+	 * Create a document for the given JSON text, which uses the JSON format mapper
+	 * of the session factory of the given {@link WrapperOptions}.
+	 */
+	public static JsonDocument of(String json, WrapperOptions options) {
+		return new JsonDocument( json, options.getSessionFactory() );
+	}
+
+	/**
+	 * The JSON text of this document.
+	 */
+	public String getJson() {
+		return json;
+	}
+
+	/**
+	 * Whether the document contains a member with the given path.
+	 */
+	public boolean contains(String path) {
+		return span( path ) != null;
+	}
+
+	/**
+	 * The JSON text of the value of the member with the given path,
+	 * or {@code null} if there is no such member.
+	 */
+	public String getJson(String path) {
+		final Span span = span( path );
+		return span == null ? null : json.substring( span.start, span.end );
+	}
+
+	/**
+	 * The value of the member with the given path, decoded to the given type,
+	 * or {@code null} if there is no such member or its value is {@code null}.
+	 */
+	public <T> T get(String path, Class<T> type) {
+		final Span span = span( path );
+		if ( span == null ) {
+			return null;
+		}
+		if ( type == String.class ) {
+			// the format mapper treats strings as JSON text
+			if ( json.charAt( span.start ) == '"' ) {
+				return type.cast( unquote( span.start, span.end ) );
+			}
+			else if ( span.end - span.start == 4 && json.startsWith( "null", span.start ) ) {
+				return null;
+			}
+			else {
+				return type.cast( json.substring( span.start, span.end ) );
+			}
+		}
+		return formatMapper().fromString(
+				json.subSequence( span.start, span.end ),
+				javaType( type ),
+				sessionFactory.getWrapperOptions()
+		);
+	}
+
+	/**
+	 * A document with the value of the member with the given path replaced by, or
+	 * set to, the JSON encoding of the given value. The object containing the member
+	 * must exist.
+	 */
+	public JsonDocument with(String path, Object value) {
+		final String valueJson;
+		if ( value == null ) {
+			valueJson = "null";
+		}
+		else if ( value instanceof String string ) {
+			final StringBuilder sb = new StringBuilder( string.length() + 2 );
+			appendQuoted( sb, string );
+			valueJson = sb.toString();
+		}
+		else {
+			valueJson = encode( value );
+		}
+		return withJson( path, valueJson );
+	}
+
+	/**
+	 * A document with the value of the member with the given path replaced by, or
+	 * set to, the given JSON text. The object containing the member must exist.
+	 */
+	public JsonDocument withJson(String path, String valueJson) {
+		final Span span = span( path );
+		if ( span != null ) {
+			return new JsonDocument(
+					json.substring( 0, span.start ) + valueJson + json.substring( span.end ),
+					sessionFactory
+			);
+		}
+		final int separator = path.lastIndexOf( '.' );
+		final Span parent = separator == -1 ? root() : span( path.substring( 0, separator ) );
+		if ( parent == null || json.charAt( parent.start ) != '{' ) {
+			throw new IllegalArgumentException( "No JSON object containing member [" + path + "]" );
+		}
+		final int end = parent.end - 1;
+		final boolean empty = skipWhitespace( parent.start + 1 ) == end;
+		final StringBuilder sb = new StringBuilder( json.length() + path.length() + valueJson.length() + 4 );
+		sb.append( json, 0, end );
+		if ( !empty ) {
+			sb.append( ',' );
+		}
+		appendQuoted( sb, path.substring( separator + 1 ) );
+		sb.append( ':' ).append( valueJson ).append( json, end, json.length() );
+		return new JsonDocument( sb.toString(), sessionFactory );
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o == this
+			|| o instanceof JsonDocument document && json.equals( document.json );
+	}
+
+	@Override
+	public int hashCode() {
+		return json.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return json;
+	}
+
+	/**
+	 * Custom serialization hook, which recreates the index, since the
+	 * transient fields are not initialized on deserialization.
+	 */
+	@Serial
+	private Object readResolve() {
+		return new JsonDocument( json, sessionFactory );
+	}
+
+	private FormatMapper formatMapper() {
+		if ( sessionFactory == null ) {
+			throw new IllegalStateException( "JSON document was not read through a session factory" );
+		}
+		return sessionFactory.getFastSessionServices().getJsonFormatMapper();
+	}
+
+	private <T> JavaType<T> javaType(Class<T> type) {
+		return sessionFactory.getTypeConfiguration().getJavaTypeRegistry().resolveDescriptor( type );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> String encode(T value) {
+		return formatMapper().toString(
+				value,
+				javaType( (Class<T>) value.getClass() ),
+				sessionFactory.getWrapperOptions()
+		);
+	}
+
+	private Span root() {
+		// a span only has final fields, so a racy initialization is harmless
+		Span root = this.root;
+		if ( root == null ) {
+			final int start = skipWhitespace( 0 );
+			if ( start == json.length() ) {
+				return null;
+			}
+			root = new Span( start, skipValue( start ) );
+			this.root = root;
+		}
+		return root;
+	}
+
+	private Span span(String path) {
+		final Span span = index.get( path );
+		if ( span != null ) {
+			return span;
+		}
+		final int separator = path.lastIndexOf( '.' );
+		final String parentPath = separator == -1 ? "" : path.substring( 0, separator );
+		final Span parent = separator == -1 ? root() : span( parentPath );
+		if ( parent == null || json.charAt( parent.start ) != '{' || indexedObjects.contains( parentPath ) ) {
+			return null;
+		}
+		// threads which index the same object concurrently add the same spans
+		indexObject( separator == -1 ? "" : parentPath + '.', parent );
+		indexedObjects.add( parentPath );
+		return index.get( path );
+	}
+
+	private void indexObject(String prefix, Span object) {
+		int i = skipWhitespace( object.start + 1 );
+		if ( json.charAt( i ) != '}' ) {
+			while ( true ) {
+				if ( json.charAt( i ) != '"' ) {
+					throw malformed( i );
+				}
+				final int nameEnd = skipString( i );
+				final String name = unquote( i, nameEnd );
+				i = skipWhitespace( nameEnd );
+				if ( json.charAt( i ) != ':' ) {
+					throw malformed( i );
+				}
+				final int valueStart = skipWhitespace( i + 1 );
+				final int valueEnd = skipValue( valueStart );
+				index.putIfAbsent( prefix + name, new Span( valueStart, valueEnd ) );
+				i = skipWhitespace( valueEnd );
+				if ( json.charAt( i ) == '}' ) {
+					break;
+				}
+				else if ( json.charAt( i ) != ',' ) {
+					throw malformed( i );
+				}
+				i = skipWhitespace( i + 1 );
+			}
+		}
+	}
+
+	private int skipWhitespace(int i) {
+		while ( i < json.length() && Character.isWhitespace( json.charAt( i ) ) ) {
+			i++;
+		}
+		return i;
+	}
+
+	private int skipString(int start) {
+		for ( int i = start + 1; i < json.length(); i++ ) {
+			switch ( json.charAt( i ) ) {
+				case '\\':
+					i++;
+					break;
+				case '"':
+					return i + 1;
+			}
+		}
+		throw malformed( start );
+	}
+
+	private int skipValue(int start) {
+		if ( start >= json.length() ) {
+			throw malformed( start );
+		}
+		switch ( json.charAt( start ) ) {
+			case '"':
+				return skipString( start );
+			case '{':
+			case '[':
+				int depth = 0;
+				for ( int i = start; i < json.length(); i++ ) {
+					switch ( json.charAt( i ) ) {
+						case '"':
+							i = skipString( i ) - 1;
+							break;
+						case '{':
+						case '[':
+							depth++;
+							break;
+						case '}':
+						case ']':
+							if ( --depth == 0 ) {
+								return i + 1;
+							}
+					}
+				}
+				throw malformed( start );
+			default:
+				int i = start;
+				while ( i < json.length() && ",}] \t\r\n".indexOf( json.charAt( i ) ) == -1 ) {
+					i++;
+				}
+				return i;
+		}
+	}
+
+	private String unquote(int start, int end) {
+		final int escape = json.indexOf( '\\', start + 1 );
+		if ( escape == -1 || escape >= end ) {
+			return json.substring( start + 1, end - 1 );
+		}
+		final StringBuilder sb = new StringBuilder( end - start );
+		for ( int i = start + 1; i < end - 1; i++ ) {
+			final char c = json.charAt( i );
+			if ( c != '\\' ) {
+				sb.append( c );
+				continue;
+			}
+			final char escaped = json.charAt( ++i );
+			switch ( escaped ) {
+				case 'b' -> sb.append( '\b' );
+				case 'f' -> sb.append( '\f' );
+				case 'n' -> sb.append( '\n' );
+				case 'r' -> sb.append( '\r' );
+				case 't' -> sb.append( '\t' );
+				case 'u' -> {
+					sb.append( (char) Integer.parseInt( json, i + 1, i + 5, 16 ) );
+					i += 4;
+				}
+				default -> sb.append( escaped );
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void appendQuoted(StringBuilder sb, String string) {
+		sb.append( '"' );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '"' || c == '\\' ) {
+				sb.append( '\\' ).append( c );
+			}
+			else if ( c < 0x20 ) {
+				sb.append( String.format( "\\u%04x", (int) c ) );
+			}
+			else {
+				sb.append( c );
+			}
+		}
+		sb.append( '"' );
+	}
+
+	private IllegalArgumentException malformed(int position) {
+		return new IllegalArgumentException( "Malformed JSON at position " + position + ": " + json );
+	}
+
+	private static final class Span {
+		private final int start;
+		private final int end;
+
+		private Span(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
@@ -10,8 +10,13 @@ import org.hibernate.type.format.AbstractJsonFormatMapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christian Beikov
@@ -22,6 +27,10 @@ public final class JacksonJsonFormatMapper extends AbstractJsonFormatMapper {
 	public static final String SHORT_NAME = "jackson";
 
 	private final ObjectMapper objectMapper;
+	// the reader and writer of a type hold on to the resolved (de)serializer,
+	// which the ObjectMapper would otherwise look up again for every value
+	private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
 
 	public JacksonJsonFormatMapper() {
 		this(new ObjectMapper().findAndRegisterModules());
@@ -34,7 +43,7 @@ public final class JacksonJsonFormatMapper extends AbstractJsonFormatMapper {
 	@Override
 	public <T> T fromString(CharSequence charSequence, Type type) {
 		try {
-			return objectMapper.readValue( charSequence.toString(), objectMapper.constructType( type ) );
+			return reader( type ).readValue( charSequence.toString() );
 		}
 		catch (JsonProcessingException e) {
 			throw new IllegalArgumentException( "Could not deserialize string to java type: " + type, e );
@@ -44,10 +53,38 @@ public final class JacksonJsonFormatMapper extends AbstractJsonFormatMapper {
 	@Override
 	public <T> String toString(T value, Type type) {
 		try {
-			return objectMapper.writerFor( objectMapper.constructType( type ) ).writeValueAsString( value );
+			return writer( type ).writeValueAsString( value );
 		}
 		catch (JsonProcessingException e) {
 			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
+
+	@Override
+	protected <T> T fromBytes(byte[] bytes, Type type) {
+		try {
+			return reader( type ).readValue( bytes );
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException( "Could not deserialize bytes to java type: " + type, e );
+		}
+	}
+
+	@Override
+	protected <T> byte[] toBytes(T value, Type type) {
+		try {
+			return writer( type ).writeValueAsBytes( value );
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
+		}
+	}
+
+	private ObjectReader reader(Type type) {
+		return readers.computeIfAbsent( type, t -> objectMapper.readerFor( objectMapper.constructType( t ) ) );
+	}
+
+	private ObjectWriter writer(Type type) {
+		return writers.computeIfAbsent( type, t -> objectMapper.writerFor( objectMapper.constructType( t ) ) );
+	}
 }
@@ -12,6 +12,8 @@ import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Type;
 
 /**
@@ -51,4 +53,26 @@ public final class JsonBJsonFormatMapper extends AbstractJsonFormatMapper {
 			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
 		}
 	}
+
+	@Override
+	protected <T> T fromBytes(byte[] bytes, Type type) {
+		try {
+			return jsonb.fromJson( new ByteArrayInputStream( bytes ), type );
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not deserialize bytes to java type: " + type, e );
+		}
+	}
+
+	@Override
+	protected <T> byte[] toBytes(T value, Type type) {
+		try {
+			final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			jsonb.toJson( value, type, outputStream );
+			return outputStream.toByteArray();
+		}
+		catch (JsonbException e) {
+			throw new IllegalArgumentException( "Could not serialize object of java type: " + type, e );
+		}
+	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.spi.ByteCodeHelper;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.ProxyConfiguration;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that proxies generated at build time are used instead of generating them at runtime.
+ */
+public class PregeneratedProxyTest {
+
+	private static final String PROXY_CLASS_NAME = SimpleEntity.class.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX;
+
+	@Test
+	public void pregeneratedProxyIsUsed() throws Exception {
+		final Enhancer enhancer = new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() );
+		final byte[] enhancedBytes = enhancer.enhance( SimpleEntity.class.getName(), readByteCode( SimpleEntity.class ) );
+		final byte[] proxyBytes = enhancer.generateProxy( SimpleEntity.class.getName(), enhancedBytes );
+		assertNotNull( proxyBytes );
+
+		final Map<String, byte[]> classes = new HashMap<>();
+		classes.put( SimpleEntity.class.getName(), enhancedBytes );
+		classes.put( PROXY_CLASS_NAME, proxyBytes );
+		final Class<?> entityClass = new BytesClassLoader( classes ).loadClass( SimpleEntity.class.getName() );
+
+		final Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( entityClass, new Class<?>[] { HibernateProxy.class } );
+		assertEquals( PROXY_CLASS_NAME, proxyClass.getName() );
+		assertEquals( entityClass, proxyClass.getSuperclass() );
+		assertTrue( ProxyConfiguration.class.isAssignableFrom( proxyClass ) );
+		assertNotNull( proxyClass.getConstructor().newInstance() );
+	}
+
+	@Test
+	public void proxyIsGeneratedWhenNotPregenerated() {
+		final Class<?> proxyClass = new ByteBuddyProxyHelper( new ByteBuddyState() )
+				.buildProxy( SimpleEntity.class, new Class<?>[] { HibernateProxy.class } );
+		assertNotEquals( PROXY_CLASS_NAME, proxyClass.getName() );
+		assertEquals( SimpleEntity.class, proxyClass.getSuperclass() );
+	}
+
+	@Test
+	public void noProxyForNonEntity() throws IOException {
+		final Enhancer enhancer = new EnhancerImpl( new DefaultEnhancementContext(), new ByteBuddyState() );
+		assertNull( enhancer.generateProxy( GenerateProxiesTest.class.getName(), readByteCode( GenerateProxiesTest.class ) ) );
+	}
+
+	private static byte[] readByteCode(Class<?> clazz) throws IOException {
+		return ByteCodeHelper.readByteCode(
+				clazz.getClassLoader().getResourceAsStream( clazz.getName().replace( '.', '/' ) + ".class" )
+		);
+	}
+
+	private static class BytesClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classes;
+
+		private BytesClassLoader(Map<String, byte[]> classes) {
+			super( PregeneratedProxyTest.class.getClassLoader() );
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized ( getClassLoadingLock( name ) ) {
+				final byte[] bytes = classes.get( name );
+				if ( bytes == null ) {
+					return super.loadClass( name, resolve );
+				}
+				Class<?> loaded = findLoadedClass( name );
+				if ( loaded == null ) {
+					loaded = defineClass( name, bytes, 0, bytes.length );
+				}
+				return loaded;
+			}
+		}
+	}
+}
@@ -9,9 +9,15 @@ package org.hibernate.orm.test.bytecode;
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
 
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
@@ -77,6 +83,43 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertNotNull( reflectionOptimizer );
 	}
 
+	@Test
+	public void testPrivateFields() {
+		final ReflectionOptimizer reflectionOptimizer = provider.getReflectionOptimizer(
+				PrivateFieldsClass.class,
+				fieldAccessMap( PrivateFieldsClass.class, "name", "count" )
+		);
+		assertNotNull( reflectionOptimizer );
+		assertNotNull( reflectionOptimizer.getAccessOptimizer() );
+
+		final PrivateFieldsClass instance = new PrivateFieldsClass();
+		reflectionOptimizer.getAccessOptimizer().setPropertyValues( instance, new Object[] { "name", 3 } );
+		assertEquals( "name", instance.name );
+		assertEquals( 3, instance.count );
+		assertEquivalent( new Object[] { "name", 3 }, reflectionOptimizer.getAccessOptimizer().getPropertyValues( instance ) );
+	}
+
+	@Test
+	public void testInheritedPrivateField() {
+		final ReflectionOptimizer reflectionOptimizer = provider.getReflectionOptimizer(
+				PrivateFieldsSubclass.class,
+				fieldAccessMap( PrivateFieldsSubclass.class, "name", "count", "other" )
+		);
+		// private fields of the superclass cannot be accessed
+		assertNull( reflectionOptimizer );
+	}
+
+	private static Map<String, PropertyAccess> fieldAccessMap(Class<?> clazz, String... propertyNames) {
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		for ( String propertyName : propertyNames ) {
+			propertyAccessMap.put(
+					propertyName,
+					PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( clazz, propertyName, true )
+			);
+		}
+		return propertyAccessMap;
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
@@ -97,6 +140,18 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		}
 	}
 
+	public static class PrivateFieldsClass {
+
+		private String name;
+
+		private int count;
+	}
+
+	public static class PrivateFieldsSubclass extends PrivateFieldsClass {
+
+		private String other;
+	}
+
 	public interface Interface {
 
 		String getProperty();
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that flushing an untouched entity with collections and embeddables skips the
+ * dirty check, and that changes to those attributes are still reported by the tracker.
+ */
+@DomainModel(
+		annotatedClasses = {
+				DirtyTrackingSkipFlushTest.Item.class
+		}
+)
+@SessionFactory
+@BytecodeEnhanced
+public class DirtyTrackingSkipFlushTest {
+
+	@BeforeEach
+	public void prepare(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = new Item();
+			item.id = 1L;
+			item.name = "item";
+			item.dimensions = new Dimensions( 1, 2 );
+			item.tags = new ArrayList<>( List.of( "a", "b" ) );
+			item.properties = new HashMap<>( Map.of( "k", "v" ) );
+			session.persist( item );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCollectionReplacementTracked(SessionFactoryScope scope) {
+		assertTrue( scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Item.class )
+				.getBytecodeEnhancementMetadata().isCollectionReplacementTracked() );
+	}
+
+	@Test
+	public void testUntouchedEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertFalse( requiresDirtyCheck( session, item ) );
+
+			Hibernate.initialize( item.tags );
+			Hibernate.initialize( item.properties );
+			session.flush();
+			assertFalse( requiresDirtyCheck( session, item ) );
+		} );
+	}
+
+	@Test
+	public void testCollectionReplaced(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			item.tags = new ArrayList<>( List.of( "a", "b" ) );
+			item.properties = new HashMap<>( Map.of( "k", "v" ) );
+			assertTrue( requiresDirtyCheck( session, item ) );
+
+			session.flush();
+			assertTrue( item.tags instanceof PersistentCollection );
+			item.tags.add( "c" );
+			item.properties.put( "l", "w" );
+		} );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertEquals( List.of( "a", "b", "c" ), item.tags );
+			assertEquals( Map.of( "k", "v", "l", "w" ), item.properties );
+		} );
+	}
+
+	@Test
+	public void testCollectionCleared(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			item.tags = null;
+			assertTrue( requiresDirtyCheck( session, item ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertTrue( item.tags.isEmpty() );
+		} );
+	}
+
+	@Test
+	public void testEmbeddableChanged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			item.dimensions.width = 3;
+			assertTrue( requiresDirtyCheck( session, item ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertEquals( 3, item.dimensions.width );
+			assertFalse( requiresDirtyCheck( session, item ) );
+		} );
+	}
+
+	private static boolean requiresDirtyCheck(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity ).requiresDirtyCheck( entity );
+	}
+
+	// --- //
+
+	@Entity(name = "Item")
+	@Table(name = "ITEM")
+	static class Item {
+
+		@Id
+		Long id;
+
+		String name;
+
+		Dimensions dimensions;
+
+		@ElementCollection(fetch = FetchType.LAZY)
+		List<String> tags;
+
+		@ElementCollection(fetch = FetchType.LAZY)
+		Map<String, String> properties;
+	}
+
+	@Embeddable
+	static class Dimensions {
+
+		int width;
+
+		int height;
+
+		Dimensions() {
+		}
+
+		Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+}
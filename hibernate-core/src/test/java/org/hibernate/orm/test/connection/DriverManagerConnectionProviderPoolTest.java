@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolMetrics;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests waiting for a connection from the pool of the {@link DriverManagerConnectionProviderImpl},
+ * and the {@link ConnectionPoolMetrics} it exposes.
+ */
+public class DriverManagerConnectionProviderPoolTest {
+
+	private DriverManagerConnectionProviderImpl connectionProvider;
+
+	@AfterEach
+	public void tearDown() {
+		if ( connectionProvider != null ) {
+			connectionProvider.stop();
+		}
+	}
+
+	@Test
+	public void testExhaustedPoolFailsImmediately() throws Exception {
+		final ConnectionPoolMetrics metrics = configure( 0 );
+		assertThat( metrics.getMaxSize() ).isEqualTo( 2 );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		assertThat( metrics.getActiveCount() ).isEqualTo( 2 );
+		assertThat( metrics.getIdleCount() ).isEqualTo( 0 );
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( metrics.getActiveCount() ).isEqualTo( 2 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		assertThat( metrics.getActiveCount() ).isEqualTo( 0 );
+		assertThat( metrics.getIdleCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testWaitForReturnedConnection() throws Exception {
+		final ConnectionPoolMetrics metrics = configure( 10_000 );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync( () -> {
+			try {
+				return connectionProvider.getConnection();
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		} );
+		while ( metrics.getPendingCount() == 0 ) {
+			assertThat( waiting ).isNotDone();
+			Thread.sleep( 10 );
+		}
+
+		connectionProvider.closeConnection( first );
+		final Connection third = waiting.get( 10, TimeUnit.SECONDS );
+		assertThat( third ).isSameAs( first );
+		assertThat( metrics.getPendingCount() ).isEqualTo( 0 );
+		assertThat( metrics.getActiveCount() ).isEqualTo( 2 );
+
+		connectionProvider.closeConnection( second );
+		connectionProvider.closeConnection( third );
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final ConnectionPoolMetrics metrics = configure( 100 );
+
+		final Connection first = connectionProvider.getConnection();
+		final Connection second = connectionProvider.getConnection();
+		final long start = System.nanoTime();
+		assertThatThrownBy( connectionProvider::getConnection ).isInstanceOf( HibernateException.class );
+		assertThat( System.nanoTime() - start ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		assertThat( metrics.getPendingCount() ).isEqualTo( 0 );
+
+		connectionProvider.closeConnection( first );
+		connectionProvider.closeConnection( second );
+		assertThat( metrics.getActiveCount() ).isEqualTo( 0 );
+	}
+
+	private ConnectionPoolMetrics configure(long acquisitionTimeout) {
+		final Map<String, Object> settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, 2 );
+		settings.put( DriverManagerConnectionProviderImpl.INITIAL_SIZE, 0 );
+		settings.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, acquisitionTimeout );
+		connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( settings );
+		assertThat( connectionProvider.isUnwrappableAs( ConnectionPoolMetrics.class ) ).isTrue();
+		return connectionProvider.unwrap( ConnectionPoolMetrics.class );
+	}
+}
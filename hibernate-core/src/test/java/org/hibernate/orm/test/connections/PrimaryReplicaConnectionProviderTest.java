@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import java.util.Map;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.PrimaryReplicaConnectionProvider;
+import org.hibernate.tool.schema.Action;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that read-only sessions which never flush automatically obtain their
+ * connections from the replica of a {@link PrimaryReplicaConnectionProvider}.
+ */
+public class PrimaryReplicaConnectionProviderTest {
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactory sessionFactory;
+	private PreparedStatementSpyConnectionProvider primary;
+	private PreparedStatementSpyConnectionProvider replica;
+
+	@AfterEach
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	public void testReadWriteSessionUsesPrimary() {
+		buildSessionFactory( true );
+		sessionFactory.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		assertThat( primary.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getReleasedConnections() ).isEmpty();
+	}
+
+	@Test
+	public void testReadOnlySessionUsesReplica() {
+		buildSessionFactory( true );
+		sessionFactory.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		primary.clear();
+
+		sessionFactory.inSession( session -> {
+			makeReadOnly( session );
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+		} );
+		assertThat( primary.getReleasedConnections() ).isEmpty();
+		assertThat( replica.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getAcquiredConnections() ).isEmpty();
+	}
+
+	@Test
+	public void testReadOnlySessionWhichFlushesUsesPrimary() {
+		buildSessionFactory( true );
+		sessionFactory.inSession( session -> {
+			// the session still flushes the new entity at the end of the transaction
+			session.setDefaultReadOnly( true );
+			inTransaction( session, () -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		} );
+		assertThat( primary.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getReleasedConnections() ).isEmpty();
+		sessionFactory.inSession( session -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+	}
+
+	@Test
+	public void testWriteThroughReplicaFails() {
+		buildSessionFactory( true );
+		sessionFactory.inSession( session -> {
+			makeReadOnly( session );
+			session.beginTransaction();
+			try {
+				assertThat( session.find( Book.class, 1L ) ).isNull();
+				session.persist( new Book( 1L, "Hibernate in Action" ) );
+				assertThatThrownBy( session::flush ).hasMessageContaining( "read-only replica" );
+				assertThatThrownBy( () -> session.createMutationQuery( "delete from Book" ).executeUpdate() )
+						.hasMessageContaining( "read-only replica" );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		assertThat( primary.getReleasedConnections() ).isEmpty();
+		assertThat( replica.getReleasedConnections() ).hasSize( 1 );
+		sessionFactory.inSession( session -> assertThat( session.find( Book.class, 1L ) ).isNull() );
+	}
+
+	@Test
+	public void testReadYourWrites() {
+		buildSessionFactory( true );
+		sessionFactory.inSession( session -> {
+			inTransaction( session, () -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+			makeReadOnly( session );
+			session.clear();
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+		} );
+		assertThat( primary.getReleasedConnections() ).hasSize( 2 );
+		assertThat( replica.getReleasedConnections() ).isEmpty();
+	}
+
+	@Test
+	public void testReadYourWritesDisabled() {
+		buildSessionFactory( false );
+		sessionFactory.inSession( session -> {
+			inTransaction( session, () -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+			makeReadOnly( session );
+			session.clear();
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+		} );
+		assertThat( primary.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getReleasedConnections() ).hasSize( 1 );
+	}
+
+	@Test
+	public void testFlushWithoutChangesDoesNotPinPrimary() {
+		buildSessionFactory( true );
+		sessionFactory.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		primary.clear();
+
+		sessionFactory.inSession( session -> {
+			// flushes at the end of the transaction, without executing any statement
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+			makeReadOnly( session );
+			session.clear();
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+			session.clear();
+			inTransaction( session, () -> assertThat( session.find( Book.class, 1L ) ).isNotNull() );
+		} );
+		assertThat( primary.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getReleasedConnections() ).hasSize( 2 );
+	}
+
+	@Test
+	public void testReadOnlyAfterBeginTransaction() {
+		buildSessionFactory( true, Map.of( AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, false ) );
+		sessionFactory.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		primary.clear();
+
+		readAfterMakingReadOnlyInTransaction();
+		// beginning the transaction acquired the connection before the session was read-only
+		assertThat( primary.getReleasedConnections() ).hasSize( 1 );
+		assertThat( replica.getReleasedConnections() ).isEmpty();
+	}
+
+	@Test
+	public void testReadOnlyAfterDelayedBeginTransaction() {
+		buildSessionFactory(
+				true,
+				Map.of(
+						AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, false,
+						AvailableSettings.DELAY_TRANSACTION_BEGIN, true
+				)
+		);
+		sessionFactory.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		primary.clear();
+
+		readAfterMakingReadOnlyInTransaction();
+		assertThat( primary.getReleasedConnections() ).isEmpty();
+		assertThat( replica.getReleasedConnections() ).hasSize( 1 );
+	}
+
+	private void readAfterMakingReadOnlyInTransaction() {
+		sessionFactory.inSession( session -> inTransaction( session, () -> {
+			makeReadOnly( session );
+			assertThat( session.find( Book.class, 1L ) ).isNotNull();
+		} ) );
+	}
+
+	private static void makeReadOnly(Session session) {
+		session.setDefaultReadOnly( true );
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+	}
+
+	private static void inTransaction(Session session, Runnable work) {
+		session.beginTransaction();
+		work.run();
+		session.getTransaction().commit();
+	}
+
+	private void buildSessionFactory(boolean readYourWrites) {
+		buildSessionFactory( readYourWrites, Map.of() );
+	}
+
+	private void buildSessionFactory(boolean readYourWrites, Map<String, Object> settings) {
+		// make sure the shared pool the spies delegate to is configured
+		final StandardServiceRegistry bootstrap = ServiceRegistryUtil.serviceRegistryBuilder().build();
+		try {
+			bootstrap.getService( ConnectionProvider.class );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( bootstrap );
+		}
+
+		primary = new PreparedStatementSpyConnectionProvider();
+		replica = new PreparedStatementSpyConnectionProvider();
+		serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.CONNECTION_PROVIDER, new PrimaryReplicaConnectionProvider( primary, replica ) )
+				.applySetting( AvailableSettings.CONNECTION_READ_YOUR_WRITES, readYourWrites )
+				.applySettings( settings )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, Action.CREATE_DROP )
+				.build();
+		sessionFactory = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Book.class )
+				.buildMetadata()
+				.buildSessionFactory();
+		primary.clear();
+		replica.clear();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.filter;
+
+import java.util.List;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached for sessions with enabled filters,
+ * and that the filter parameter values are bound on each execution.
+ */
+@DomainModel(
+		annotatedClasses = {
+				FilterQueryPlanCachingTest.Document.class
+		}
+)
+@SessionFactory
+public class FilterQueryPlanCachingTest {
+
+	private static final String QUERY = "select d.id from Document d order by d.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1, 1, "eu" ) );
+			session.persist( new Document( 2, 1, "us" ) );
+			session.persist( new Document( 3, 2, "eu" ) );
+			session.persist( new Document( 4, 2, "apac" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		interpretationCache( scope ).close();
+	}
+
+	@Test
+	public void testSingleValuedParameter(SessionFactoryScope scope) {
+		assertThat( listWithTenant( scope, 1 ) ).containsExactly( 1, 2 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		assertThat( listWithTenant( scope, 2 ) ).containsExactly( 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// the plan of an unfiltered query must not be reused
+		final List<Integer> unfiltered = scope.fromTransaction(
+				session -> session.createQuery( QUERY, Integer.class ).list()
+		);
+		assertThat( unfiltered ).containsExactly( 1, 2, 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMultiValuedParameter(SessionFactoryScope scope) {
+		assertThat( listWithRegions( scope, List.of( "eu" ) ) ).containsExactly( 1, 3 );
+		assertThat( listWithRegions( scope, List.of( "us" ) ) ).containsExactly( 2 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a different number of values requires a different plan
+		assertThat( listWithRegions( scope, List.of( "us", "apac" ) ) ).containsExactly( 2, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		assertThat( listWithRegions( scope, List.of( "eu", "apac" ) ) ).containsExactly( 1, 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMultiValuedParametersOfSeveralFilters(SessionFactoryScope scope) {
+		assertThat( listWithRegionsAndIds( scope, List.of( "eu", "us" ), List.of( 1, 2, 3 ) ) )
+				.containsExactly( 1, 2, 3 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// the same numbers of values, but for the other parameter
+		assertThat( listWithRegionsAndIds( scope, List.of( "eu", "us", "apac" ), List.of( 3, 4 ) ) )
+				.containsExactly( 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	private static List<Integer> listWithTenant(SessionFactoryScope scope, int tenant) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "tenantFilter" ).setParameter( "tenant", tenant );
+			return session.createQuery( QUERY, Integer.class ).list();
+		} );
+	}
+
+	private static List<Integer> listWithRegions(SessionFactoryScope scope, List<String> regions) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "regionFilter" ).setParameterList( "regions", regions );
+			return session.createQuery( QUERY, Integer.class ).list();
+		} );
+	}
+
+	private static List<Integer> listWithRegionsAndIds(
+			SessionFactoryScope scope,
+			List<String> regions,
+			List<Integer> ids) {
+		return scope.fromTransaction( session -> {
+			session.enableFilter( "regionFilter" ).setParameterList( "regions", regions );
+			session.enableFilter( "idFilter" ).setParameterList( "ids", ids );
+			return session.createQuery( QUERY, Integer.class ).list();
+		} );
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@FilterDef(name = "tenantFilter", parameters = @ParamDef(name = "tenant", type = Integer.class))
+	@FilterDef(name = "regionFilter", parameters = @ParamDef(name = "regions", type = String.class))
+	@FilterDef(name = "idFilter", parameters = @ParamDef(name = "ids", type = Integer.class))
+	@Filter(name = "tenantFilter", condition = "tenant = :tenant")
+	@Filter(name = "regionFilter", condition = "region in (:regions)")
+	@Filter(name = "idFilter", condition = "id in (:ids)")
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private Integer tenant;
+
+		private String region;
+
+		public Document() {
+		}
+
+		public Document(Integer id, Integer tenant, String region) {
+			this.id = id;
+			this.tenant = tenant;
+			this.region = region;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.JDBCException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests that prepared statements are reused within a logical connection when
+ * {@value AvailableSettings#STATEMENT_CACHE_SIZE} is set, and closed when the
+ * connection is released.
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Item.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class PreparedStatementCacheTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		final Map<String, Object> props = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) props.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+			}
+		} );
+		connectionProvider.clear();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testQueryStatementReused(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final String name = session.createSelectionQuery( "select name from Item where id = :id", String.class )
+						.setParameter( "id", i )
+						.getSingleResult();
+				assertThat( name ).isEqualTo( "item" + i );
+			}
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( connectionProvider.getPreparedStatements() ).hasSize( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 3 );
+		assertAllClosed( connectionProvider.getPreparedStatements() );
+	}
+
+	@Test
+	public void testMutationStatementReused(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 5; i <= 7; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+				session.flush();
+			}
+		} );
+
+		assertThat( connectionProvider.getPreparedSQLStatements() )
+				.filteredOn( sql -> sql.startsWith( "insert" ) )
+				.hasSize( 1 );
+		assertThat( scope.getSessionFactory().getStatistics().getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+		assertAllClosed( connectionProvider.getPreparedStatements() );
+		scope.inTransaction(
+				session -> assertThat( session.find( Item.class, 7 ).name ).isEqualTo( "item7" )
+		);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( String attribute : List.of( "id", "name", "id", "upper(name)", "id", "name" ) ) {
+				session.createSelectionQuery( "select " + attribute + " from Item where id = 1", Object.class )
+						.getSingleResult();
+			}
+			// the first statement for "name" was closed when the one for "upper(name)" was released
+			assertThat( connectionProvider.getPreparedStatements() ).hasSize( 4 );
+			try {
+				assertThat( connectionProvider.getPreparedStatements().get( 1 ).isClosed() ).isTrue();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+		assertAllClosed( connectionProvider.getPreparedStatements() );
+	}
+
+	@Test
+	public void testFailedStatementClosed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThatThrownBy(
+					() -> session.createNativeQuery( "select ( :param / 2 ) from Item", Object.class )
+							.setParameter( "param", "foo" )
+							.getResultList()
+			).isInstanceOf( JDBCException.class );
+			assertAllClosed( connectionProvider.getPreparedStatements() );
+		} );
+	}
+
+	private static void assertAllClosed(List<PreparedStatement> statements) {
+		for ( PreparedStatement statement : statements ) {
+			try {
+				assertThat( statement.isClosed() ).isTrue();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException( e );
+			}
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests that large LOBs are streamed to and from the database, without
+ * reading their whole content into memory.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = StreamedLobTest.Document.class)
+@SessionFactory
+public class StreamedLobTest {
+
+	private static final int BLOB_LENGTH = 32 * 1024 * 1024;
+	private static final int CLOB_LENGTH = 8 * 1024 * 1024;
+
+	private final com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	// the memory allocated by the database to store the LOBs
+	private long persistAllocatedBytes;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		assumeTrue( threadMXBean.isThreadAllocatedMemorySupported() );
+		threadMXBean.setThreadAllocatedMemoryEnabled( true );
+		scope.inTransaction( session -> {
+			final long allocated = allocatedBytes();
+			session.persist( new Document(
+					1,
+					"draft",
+					session.getLobHelper().createBlob( new PatternInputStream( BLOB_LENGTH ), BLOB_LENGTH ),
+					session.getLobHelper().createClob( new PatternReader( CLOB_LENGTH ), CLOB_LENGTH )
+			) );
+			session.flush();
+			persistAllocatedBytes = allocatedBytes() - allocated;
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testRead(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertContent( document );
+		} );
+	}
+
+	@Test
+	public void testUpdateOtherAttribute(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			document.name = "final";
+			final long allocated = allocatedBytes();
+			// the loaded LOBs are bound again, streamed from the database
+			// just like the streams they were created from
+			session.flush();
+			assertThat( allocatedBytes() - allocated ).isLessThan( persistAllocatedBytes + BLOB_LENGTH / 2 );
+		} );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.name ).isEqualTo( "final" );
+			assertContent( document );
+		} );
+	}
+
+	private long allocatedBytes() {
+		return threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+	}
+
+	private static void assertContent(Document document) {
+		try {
+			assertThat( document.data.length() ).isEqualTo( BLOB_LENGTH );
+			try ( InputStream actual = document.data.getBinaryStream();
+					InputStream expected = new PatternInputStream( BLOB_LENGTH ) ) {
+				final byte[] actualBuffer = new byte[8192];
+				final byte[] expectedBuffer = new byte[8192];
+				int read;
+				while ( ( read = actual.readNBytes( actualBuffer, 0, actualBuffer.length ) ) > 0 ) {
+					assertThat( expected.readNBytes( expectedBuffer, 0, read ) ).isEqualTo( read );
+					assertThat( actualBuffer ).isEqualTo( expectedBuffer );
+				}
+				assertThat( expected.read() ).isEqualTo( -1 );
+			}
+			assertThat( document.text.length() ).isEqualTo( CLOB_LENGTH );
+			try ( Reader actual = document.text.getCharacterStream();
+					Reader expected = new PatternReader( CLOB_LENGTH ) ) {
+				int c;
+				while ( ( c = actual.read() ) != -1 ) {
+					assertThat( c ).isEqualTo( expected.read() );
+				}
+				assertThat( expected.read() ).isEqualTo( -1 );
+			}
+		}
+		catch (SQLException | IOException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	/**
+	 * Generates its content, so that it doesn't hold it in memory.
+	 */
+	private static class PatternInputStream extends InputStream {
+		private final int length;
+		private int position;
+
+		private PatternInputStream(int length) {
+			this.length = length;
+		}
+
+		@Override
+		public int read() {
+			return position < length ? ( position++ * 31 ) & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if ( position >= length ) {
+				return -1;
+			}
+			final int count = Math.min( len, length - position );
+			for ( int i = 0; i < count; i++ ) {
+				b[off + i] = (byte) ( position++ * 31 );
+			}
+			return count;
+		}
+	}
+
+	private static class PatternReader extends Reader {
+		private final int length;
+		private int position;
+
+		private PatternReader(int length) {
+			this.length = length;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if ( position >= length ) {
+				return -1;
+			}
+			final int count = Math.min( len, length - position );
+			for ( int i = 0; i < count; i++ ) {
+				cbuf[off + i] = (char) ( 'a' + position++ % 26 );
+			}
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Lob
+		private Blob data;
+
+		@Lob
+		private Clob text;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String name, Blob data, Clob text) {
+			this.id = id;
+			this.name = name;
+			this.data = data;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.format.JsonDocument;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests attributes of type {@link JsonDocument}.
+ */
+@DomainModel(annotatedClasses = JsonDocumentTest.Product.class)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+public class JsonDocumentTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Product(
+				1,
+				JsonDocument.of( "{\"name\":\"Chair\",\"stock\":12,\"supplier\":{\"name\":\"Wood \\\"&\\\" Co\",\"city\":\"Linz\"},\"tags\":[\"oak\",\"brown\"]}" )
+		) ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReadMembers(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final JsonDocument details = session.find( Product.class, 1 ).details;
+			assertThat( details.get( "name", String.class ) ).isEqualTo( "Chair" );
+			assertThat( details.get( "stock", Integer.class ) ).isEqualTo( 12 );
+			assertThat( details.get( "supplier.name", String.class ) ).isEqualTo( "Wood \"&\" Co" );
+			assertThat( details.getJson( "tags" ) ).isEqualTo( "[\"oak\",\"brown\"]" );
+			assertThat( details.contains( "supplier.city" ) ).isTrue();
+			assertThat( details.contains( "supplier.country" ) ).isFalse();
+			assertThat( details.get( "price", Integer.class ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testUnchangedDocumentNotUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1 );
+			assertThat( product.details.get( "supplier.city", String.class ) ).isEqualTo( "Linz" );
+		} );
+		statementInspector.assertNoUpdate();
+	}
+
+	@Test
+	public void testModifiedDocumentUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1 );
+			product.details = product.details
+					.with( "stock", 11 )
+					.with( "supplier.city", "Wien" )
+					.with( "supplier.country", "AT" );
+		} );
+		scope.inTransaction( session -> {
+			final JsonDocument details = session.find( Product.class, 1 ).details;
+			assertThat( details.get( "stock", Integer.class ) ).isEqualTo( 11 );
+			assertThat( details.get( "supplier.city", String.class ) ).isEqualTo( "Wien" );
+			assertThat( details.get( "supplier.country", String.class ) ).isEqualTo( "AT" );
+			assertThat( details.get( "name", String.class ) ).isEqualTo( "Chair" );
+		} );
+	}
+
+	@Test
+	public void testSerializedDocument(SessionFactoryScope scope) {
+		final JsonDocument details = scope.fromTransaction( session -> session.find( Product.class, 1 ).details );
+		final JsonDocument copy = (JsonDocument) SerializationHelper.clone( details );
+		assertThat( copy ).isEqualTo( details );
+		assertThat( copy.get( "stock", Integer.class ) ).isEqualTo( 12 );
+		assertThat( copy.with( "stock", 11 ).get( "stock", Integer.class ) ).isEqualTo( 11 );
+	}
+
+	@Test
+	public void testConcurrentReads(SessionFactoryScope scope) throws Exception {
+		final JsonDocument details = scope.fromTransaction( session -> session.find( Product.class, 1 ).details );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<String>> futures = new ArrayList<>();
+			for ( int i = 0; i < 16; i++ ) {
+				final String path = i % 2 == 0 ? "supplier.city" : "tags";
+				futures.add( executor.submit( () -> details.getJson( path ) ) );
+			}
+			for ( int i = 0; i < futures.size(); i++ ) {
+				assertThat( futures.get( i ).get() ).isEqualTo( i % 2 == 0 ? "\"Linz\"" : "[\"oak\",\"brown\"]" );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testNullMember() {
+		final JsonDocument details = JsonDocument.of( "{\"name\": null , \"stock\":12,\"nullable\":\"null\"}" );
+		assertThat( details.contains( "name" ) ).isTrue();
+		assertThat( details.getJson( "name" ) ).isEqualTo( "null" );
+		assertThat( details.get( "name", String.class ) ).isNull();
+		assertThat( details.get( "stock", String.class ) ).isEqualTo( "12" );
+		assertThat( details.get( "nullable", String.class ) ).isEqualTo( "null" );
+	}
+
+	@Test
+	public void testMissingParent(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final JsonDocument details = session.find( Product.class, 1 ).details;
+			assertThatThrownBy( () -> details.with( "manufacturer.name", "Acme" ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private JsonDocument details;
+
+		public Product() {
+		}
+
+		public Product(Integer id, JsonDocument details) {
+			this.id = id;
+			this.details = details;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.basic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.mapping.internal.BasicAttributeMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the binary form of JSON produced and consumed by the {@link FormatMapper}.
+ */
+@DomainModel(annotatedClasses = JsonFormatMapperBytesTests.EntityWithJson.class)
+@SessionFactory
+public abstract class JsonFormatMapperBytesTests {
+
+	@ServiceRegistry(settings = @Setting(name = AvailableSettings.JSON_FORMAT_MAPPER, value = "jsonb"))
+	public static class JsonB extends JsonFormatMapperBytesTests {
+	}
+
+	@ServiceRegistry(settings = @Setting(name = AvailableSettings.JSON_FORMAT_MAPPER, value = "jackson"))
+	public static class Jackson extends JsonFormatMapperBytesTests {
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from EntityWithJson" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBytesMatchString(SessionFactoryScope scope) {
+		final FormatMapper formatMapper = scope.getSessionFactory().getFastSessionServices().getJsonFormatMapper();
+		final JavaType<Object> javaType = tagsJavaType( scope );
+		final List<Tag> tags = List.of( new Tag( "orm", 1 ), new Tag( "jdbc", 2 ) );
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			final byte[] bytes = formatMapper.toBytes( tags, javaType, session );
+			assertThat( new String( bytes, StandardCharsets.UTF_8 ) )
+					.isEqualTo( formatMapper.toString( tags, javaType, session ) );
+			assertThat( formatMapper.fromBytes( bytes, javaType, session ) ).isEqualTo( tags );
+			// repeated use of the same type
+			assertThat( formatMapper.fromBytes( bytes, javaType, session ) ).isEqualTo( tags );
+		}
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		final List<Tag> tags = List.of( new Tag( "orm", 1 ), new Tag( "jdbc", 2 ) );
+		scope.inTransaction( session -> session.persist( new EntityWithJson( 1, tags ) ) );
+		scope.inTransaction( session -> assertThat( session.find( EntityWithJson.class, 1 ).tags ).isEqualTo( tags ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JavaType<Object> tagsJavaType(SessionFactoryScope scope) {
+		final BasicAttributeMapping attributeMapping = (BasicAttributeMapping) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( EntityWithJson.class )
+				.findAttributeMapping( "tags" );
+		return (JavaType<Object>) attributeMapping.getJavaType();
+	}
+
+	@Entity(name = "EntityWithJson")
+	public static class EntityWithJson {
+		@Id
+		private Integer id;
+
+		@JdbcTypeCode(SqlTypes.JSON)
+		private List<Tag> tags;
+
+		public EntityWithJson() {
+		}
+
+		public EntityWithJson(Integer id, List<Tag> tags) {
+			this.id = id;
+			this.tags = tags;
+		}
+	}
+
+	public static class Tag {
+		private String name;
+		private int rank;
+
+		public Tag() {
+		}
+
+		public Tag(String name, int rank) {
+			this.name = name;
+			this.rank = rank;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getRank() {
+			return rank;
+		}
+
+		public void setRank(int rank) {
+			this.rank = rank;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Tag tag && rank == tag.rank && name.equals( tag.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode() * 31 + rank;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.embeddable;
+
+import java.sql.SQLException;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.JsonHelper;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the reuse of a {@link JsonHelper.EmbeddableJsonMapping} for reading and
+ * writing the JSON documents of an aggregate embeddable.
+ */
+@DomainModel(annotatedClasses = JsonEmbeddableMappingTest.Book.class)
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJsonAggregate.class)
+public class JsonEmbeddableMappingTest {
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) throws SQLException {
+		final JsonHelper.EmbeddableJsonMapping jsonMapping = jsonMapping( scope );
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			final Details details = new Details( "Hibernate in Action", 400, null, new Address( "Greenwich", "USA" ) );
+			final String json = JsonHelper.toString( jsonMapping, details, session );
+			final Details result = JsonHelper.fromString( jsonMapping, json, true, session );
+			assertThat( result ).isEqualTo( details );
+			// the mapping is reused for the next document
+			assertThat( JsonHelper.<Details>fromString( jsonMapping, json, true, session ) ).isEqualTo( details );
+		}
+	}
+
+	@Test
+	public void testKeysInAnyOrder(SessionFactoryScope scope) throws SQLException {
+		final JsonHelper.EmbeddableJsonMapping jsonMapping = jsonMapping( scope );
+		try ( SessionImplementor session = scope.getSessionFactory().openSession() ) {
+			final Details result = JsonHelper.fromString(
+					jsonMapping,
+					"{\"address\":{\"country\":\"USA\",\"city\":\"Greenwich\"},\"publisher\":\"Manning\",\"pages\":400,\"title\":\"Hibernate \\\"in\\\" Action\"}",
+					true,
+					session
+			);
+			assertThat( result ).isEqualTo(
+					new Details( "Hibernate \"in\" Action", 400, "Manning", new Address( "Greenwich", "USA" ) )
+			);
+		}
+	}
+
+	@Test
+	public void testUnknownKey(SessionFactoryScope scope) {
+		final JsonHelper.EmbeddableJsonMapping jsonMapping = jsonMapping( scope );
+		scope.inSession( session -> assertThatThrownBy(
+				() -> JsonHelper.fromString( jsonMapping, "{\"titles\":\"Hibernate in Action\"}", true, session )
+		).isInstanceOf( IllegalArgumentException.class ).hasMessageContaining( "[titles]" ) );
+	}
+
+	private static JsonHelper.EmbeddableJsonMapping jsonMapping(SessionFactoryScope scope) {
+		final EmbeddableMappingType embeddableMappingType = ( (EmbeddableValuedModelPart) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class )
+				.findAttributeMapping( "details" ) ).getEmbeddableTypeDescriptor();
+		return new JsonHelper.EmbeddableJsonMapping( embeddableMappingType );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@JdbcTypeCode(SqlTypes.JSON)
+		private Details details;
+	}
+
+	@Embeddable
+	public record Details(String title, int pages, String publisher, @JdbcTypeCode(SqlTypes.JSON) Address address) {
+	}
+
+	@Embeddable
+	public record Address(String city, String country) {
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.paging.keybased;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the pages of a query with key-based pagination bind the key values to
+ * parameters and share a query plan.
+ */
+@DomainModel(annotatedClasses = KeyBasedPagingPlanCachingTest.Book.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class KeyBasedPagingPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "title" + ( i % 4 ) ) );
+			}
+		} );
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPagesSharePlan(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final KeyedPage<Book> firstPage = Page.first( 3 ).keyedBy(
+				List.of( Order.asc( Book.class, "title" ), Order.asc( Book.class, "id" ) )
+		);
+
+		KeyedResultList<Book> page = list( scope, firstPage );
+		assertThat( ids( page ) ).containsExactly( 4, 8, 1 );
+		statementInspector.clear();
+		page = list( scope, page.getNextPage() );
+		assertThat( ids( page ) ).containsExactly( 5, 9, 2 );
+		page = list( scope, page.getNextPage() );
+		assertThat( ids( page ) ).containsExactly( 6, 10, 3 );
+		page = list( scope, page.getNextPage() );
+		assertThat( ids( page ) ).containsExactly( 7 );
+		assertThat( page.isLastPage() ).isTrue();
+
+		// the first page and the following pages
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 ).allMatch(
+				sql -> sql.equals( statementInspector.getSqlQueries().get( 0 ) )
+		);
+
+		page = list( scope, page.getPreviousPage() );
+		assertThat( ids( page ) ).containsExactly( 6, 10, 3 );
+		page = list( scope, page.getPreviousPage() );
+		assertThat( ids( page ) ).containsExactly( 5, 9, 2 );
+		// the previous pages in reverse order
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testCriteriaQuery(SessionFactoryScope scope) {
+		final KeyedPage<Book> firstPage = Page.first( 4 ).keyedBy( Order.desc( Book.class, "id" ) );
+		scope.inSession( session -> {
+			final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Book> query = builder.createQuery( Book.class );
+			final JpaRoot<Book> root = query.from( Book.class );
+			query.where( builder.notEqual( root.get( "title" ), "title0" ) );
+
+			KeyedResultList<Book> page = session.createSelectionQuery( query ).getKeyedResultList( firstPage );
+			assertThat( ids( page ) ).containsExactly( 10, 9, 7, 6 );
+			page = session.createSelectionQuery( query ).getKeyedResultList( page.getNextPage() );
+			assertThat( ids( page ) ).containsExactly( 5, 3, 2, 1 );
+		} );
+
+		// key-based pagination does not change how criteria values are handled
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inSession( session -> {
+			final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Book> query = builder.createQuery( Book.class );
+			query.where( builder.equal( query.from( Book.class ).get( "title" ), "title1" ) );
+			assertThat( session.createSelectionQuery( query ).getResultList() ).hasSize( 3 );
+		} );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "'title1'" );
+	}
+
+	@Test
+	public void testCriteriaQueryWithHavingParameter(SessionFactoryScope scope) {
+		final KeyedPage<Book> firstPage = Page.first( 3 ).keyedBy( Order.asc( Book.class, "id" ) );
+		// the key parameters precede the parameter of the having clause,
+		// and each page builds a new tree which shares the plan
+		KeyedResultList<Book> page = listGrouped( scope, firstPage );
+		assertThat( ids( page ) ).containsExactly( 1, 2, 3 );
+		page = listGrouped( scope, page.getNextPage() );
+		assertThat( ids( page ) ).containsExactly( 5, 6, 7 );
+		assertThat( page.isLastPage() ).isTrue();
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	private static KeyedResultList<Book> listGrouped(SessionFactoryScope scope, KeyedPage<Book> page) {
+		return scope.fromSession( session -> {
+			final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Book> query = builder.createQuery( Book.class );
+			final JpaRoot<Book> root = query.from( Book.class );
+			final JpaParameterExpression<String> title = builder.parameter( String.class );
+			final JpaParameterExpression<Integer> maxId = builder.parameter( Integer.class );
+			query.where( builder.notEqual( root.get( "title" ), title ) )
+					.groupBy( root.get( "id" ), root.get( "title" ) )
+					.having( builder.lessThan( root.get( "id" ), maxId ) );
+			return session.createSelectionQuery( query )
+					.setParameter( title, "title0" )
+					.setParameter( maxId, 9 )
+					.getKeyedResultList( page );
+		} );
+	}
+
+	@Test
+	public void testQueryCache(SessionFactoryScope scope) {
+		final KeyedPage<Book> firstPage = Page.first( 4 ).keyedBy( Order.asc( Book.class, "id" ) );
+		final KeyedResultList<Book> page = list( scope, firstPage, true );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		assertThat( ids( list( scope, page.getNextPage(), true ) ) ).containsExactly( 5, 6, 7, 8 );
+		assertThat( ids( list( scope, page.getNextPage(), true ) ) ).containsExactly( 5, 6, 7, 8 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// a different key is a different cache entry
+		final KeyedPage<Book> otherPage = page.getNextPage().nextPage( List.of( 2 ) );
+		assertThat( ids( list( scope, otherPage, true ) ) ).containsExactly( 3, 4, 5, 6 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static KeyedResultList<Book> list(SessionFactoryScope scope, KeyedPage<Book> page) {
+		return list( scope, page, false );
+	}
+
+	private static KeyedResultList<Book> list(SessionFactoryScope scope, KeyedPage<Book> page, boolean cacheable) {
+		return scope.fromSession(
+				session -> session.createSelectionQuery( "from Book", Book.class )
+						.setCacheable( cacheable )
+						.getKeyedResultList( page )
+		);
+	}
+
+	private static List<Integer> ids(KeyedResultList<Book> page) {
+		return page.getResultList().stream().map( book -> book.id ).toList();
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
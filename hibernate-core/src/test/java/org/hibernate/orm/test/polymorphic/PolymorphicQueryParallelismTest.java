@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.polymorphic;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the queries of a polymorphic query which is split into one query per
+ * entity are executed concurrently when
+ * {@value AvailableSettings#POLYMORPHIC_QUERY_PARALLELISM} is set, with an executor
+ * which finishes each task before the thread executing the query continues.
+ */
+@DomainModel(annotatedClasses = {
+		PolymorphicQueryParallelismTest.Dog.class,
+		PolymorphicQueryParallelismTest.Cat.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.POLYMORPHIC_QUERY_PARALLELISM, value = "4"),
+		@Setting(
+				name = AvailableSettings.POLYMORPHIC_QUERY_EXECUTOR,
+				value = "org.hibernate.orm.test.polymorphic.PolymorphicQueryParallelismTest$JoiningExecutor"
+		)
+})
+@SessionFactory(statementInspectorClass = PolymorphicQueryParallelismTest.ThreadRecordingStatementInspector.class)
+public class PolymorphicQueryParallelismTest {
+	private static final String ANIMAL = PolymorphicQueryParallelismTest.Animal.class.getName();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Dog( 1, "Rex" ) );
+			session.persist( new Dog( 2, "Fido" ) );
+			session.persist( new Cat( 1, "Tom" ) );
+			session.persist( new Cat( 2, "Felix" ) );
+		} );
+		ThreadRecordingStatementInspector.THREADS.clear();
+		JoiningExecutor.rejecting = false;
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Dog" ).executeUpdate();
+			session.createMutationQuery( "delete from Cat" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBasicValuesSelectedConcurrently(SessionFactoryScope scope) {
+		final List<String> names = scope.fromSession(
+				session -> session.createSelectionQuery( "select name from " + ANIMAL + " order by id", String.class )
+						.getResultList()
+		);
+
+		// the results of each entity are kept together, in the order of the query
+		assertThat( names ).isIn(
+				List.of( "Rex", "Fido", "Tom", "Felix" ),
+				List.of( "Tom", "Felix", "Rex", "Fido" )
+		);
+		assertThat( ThreadRecordingStatementInspector.THREADS ).doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	public void testLimitApplied(SessionFactoryScope scope) {
+		final List<Object[]> results = scope.fromSession(
+				session -> session.createSelectionQuery( "select id, name from " + ANIMAL + " order by id", Object[].class )
+						.setFirstResult( 1 )
+						.setMaxResults( 2 )
+						.getResultList()
+		);
+
+		assertThat( results ).hasSize( 2 );
+		assertThat( results.get( 0 )[0] ).isEqualTo( 2 );
+		assertThat( results.get( 1 )[0] ).isEqualTo( 1 );
+		assertThat( ThreadRecordingStatementInspector.THREADS ).doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	public void testParameterBindingsCopied(SessionFactoryScope scope) {
+		final List<String> names = scope.fromSession(
+				session -> session.createSelectionQuery( "select name from " + ANIMAL + " where id = :id", String.class )
+						.setParameter( "id", 2 )
+						.getResultList()
+		);
+
+		assertThat( names ).containsExactlyInAnyOrder( "Fido", "Felix" );
+		assertThat( ThreadRecordingStatementInspector.THREADS ).doesNotContain( Thread.currentThread() );
+	}
+
+	@Test
+	public void testSequentialWhenExecutorRejects(SessionFactoryScope scope) {
+		JoiningExecutor.rejecting = true;
+		final List<String> names = scope.fromSession(
+				session -> session.createSelectionQuery( "select name from " + ANIMAL + " where id = :id", String.class )
+						.setParameter( "id", 1 )
+						.getResultList()
+		);
+
+		assertThat( names ).containsExactlyInAnyOrder( "Rex", "Tom" );
+		assertThat( ThreadRecordingStatementInspector.THREADS ).containsOnly( Thread.currentThread() );
+	}
+
+	@Test
+	public void testSequentialInTransaction(SessionFactoryScope scope) {
+		final List<String> names = scope.fromTransaction(
+				session -> session.createSelectionQuery( "select name from " + ANIMAL, String.class )
+						.getResultList()
+		);
+
+		assertThat( names ).containsExactlyInAnyOrder( "Rex", "Fido", "Tom", "Felix" );
+		assertThat( ThreadRecordingStatementInspector.THREADS ).containsOnly( Thread.currentThread() );
+	}
+
+	@Test
+	public void testSequentialForEntities(SessionFactoryScope scope) {
+		final List<Animal> animals = scope.fromSession(
+				session -> session.createSelectionQuery( "from " + ANIMAL, Animal.class ).getResultList()
+		);
+
+		assertThat( animals ).hasSize( 4 );
+		assertThat( ThreadRecordingStatementInspector.THREADS ).containsOnly( Thread.currentThread() );
+	}
+
+	public static class ThreadRecordingStatementInspector implements StatementInspector {
+		static final Set<Thread> THREADS = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public String inspect(String sql) {
+			THREADS.add( Thread.currentThread() );
+			return sql;
+		}
+	}
+
+	/**
+	 * Executes each task in a new thread, and waits for the thread to finish, so that
+	 * the tasks execute the queries before the thread executing the query does.
+	 */
+	public static class JoiningExecutor implements Executor {
+		static volatile boolean rejecting;
+
+		@Override
+		public void execute(Runnable command) {
+			if ( rejecting ) {
+				throw new RejectedExecutionException();
+			}
+			final Thread thread = new Thread( command );
+			thread.start();
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException( e );
+			}
+		}
+	}
+
+	public interface Animal {
+		String getName();
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog implements Animal {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat implements Animal {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Cat() {
+		}
+
+		public Cat(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+}
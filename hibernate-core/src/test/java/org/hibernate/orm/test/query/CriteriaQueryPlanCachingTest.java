@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.criteria.JoinType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that criteria queries which are built anew for every execution
+ * share a query plan if their trees have the same structure.
+ */
+@DomainModel(
+		annotatedClasses = {
+				CriteriaQueryPlanCachingTest.Author.class,
+				CriteriaQueryPlanCachingTest.Book.class
+		}
+)
+@SessionFactory
+public class CriteriaQueryPlanCachingTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Author author = new Author( i, "author" + i );
+				session.persist( author );
+				session.persist( new Book( i, "book" + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		interpretationCache( scope ).close();
+	}
+
+	@Test
+	public void testBoundValues(SessionFactoryScope scope) {
+		for ( int id = 1; id <= 4; id++ ) {
+			final int expected = id;
+			final List<String> names = scope.fromTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+				final JpaRoot<Author> root = query.from( Author.class );
+				query.select( root.get( "name" ) ).where( cb.equal( root.get( "id" ), expected ) );
+				return session.createQuery( query ).list();
+			} );
+			assertThat( names ).containsExactly( "author" + id );
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testParameters(SessionFactoryScope scope) {
+		for ( int id = 1; id <= 4; id++ ) {
+			final int expected = id;
+			final List<String> titles = scope.fromTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+				final JpaRoot<Book> root = query.from( Book.class );
+				final JpaParameterExpression<Integer> authorId = cb.parameter( Integer.class );
+				final JpaParameterExpression<String> title = cb.parameter( String.class );
+				query.select( root.get( "title" ) )
+						.where(
+								cb.equal( root.get( "author" ).get( "id" ), authorId ),
+								cb.like( root.get( "title" ), title )
+						);
+				return session.createQuery( query )
+						.setParameter( title, "book%" )
+						.setParameter( authorId, expected )
+						.list();
+			} );
+			assertThat( titles ).containsExactly( "book" + id );
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testParameterList(SessionFactoryScope scope) {
+		assertThat( listWithIds( scope, List.of( 1, 2 ) ) ).containsExactly( 1, 2 );
+		assertThat( listWithIds( scope, List.of( 3, 4 ) ) ).containsExactly( 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a different number of values requires a different plan
+		assertThat( listWithIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testLikeAndIlike(SessionFactoryScope scope) {
+		assertThat( listMatching( scope, "BOOK1", true ) ).isEmpty();
+		assertThat( listMatching( scope, "BOOK1", false ) ).containsExactly( 1 );
+		assertThat( listMatching( scope, "BOOK2", true ) ).isEmpty();
+		// a case-insensitive match is not the same as a case-sensitive one
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDifferentStructure(SessionFactoryScope scope) {
+		assertThat( listWithLiteral( scope, "book1" ) ).containsExactly( 1 );
+		assertThat( listWithLiteral( scope, "book2" ) ).containsExactly( 2 );
+		// the values of literals are part of the structure
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+
+		final List<Author> authors = listWithBooks( scope, true );
+		assertThat( authors ).hasSize( 4 ).allMatch( author -> Hibernate.isInitialized( author.books ) );
+		assertThat( listWithBooks( scope, false ) ).hasSize( 4 )
+				.noneMatch( author -> Hibernate.isInitialized( author.books ) );
+		// a fetch join is not the same as a join
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testFunctionResultType(SessionFactoryScope scope) {
+		assertThat( listWithFunction( scope, Integer.class ) ).containsExactly( 1 );
+		assertThat( listWithFunction( scope, Long.class ) ).containsExactly( 1L );
+		// the result type of a function is part of the structure
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testHqlRendering(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<String> query = cb.createQuery( String.class );
+			final JpaRoot<Author> root = query.from( Author.class );
+			query.select( root.get( "name" ) ).where( cb.equal( root.get( "name" ), "author1" ) );
+			// the structural key does not change how bound values are rendered
+			assertThat( ( (SqmSelectStatement<?>) query ).toHqlString() )
+					.contains( "author1" )
+					.doesNotContain( ":param_" );
+		} );
+	}
+
+	private static List<Object> listWithFunction(SessionFactoryScope scope, Class<?> resultType) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Object> query = cb.createQuery( Object.class );
+			final JpaRoot<Author> root = query.from( Author.class );
+			query.select( cb.function( "abs", resultType, root.get( "id" ) ) )
+					.where( cb.equal( root.get( "id" ), 1 ) );
+			return session.createQuery( query ).list();
+		} );
+	}
+
+	private static List<Integer> listWithIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final JpaRoot<Author> root = query.from( Author.class );
+			final JpaParameterExpression<List> parameter = cb.parameter( List.class );
+			query.select( root.get( "id" ) ).where( root.get( "id" ).in( parameter ) ).orderBy( cb.asc( root.get( "id" ) ) );
+			return session.createQuery( query ).setParameter( parameter, ids ).list();
+		} );
+	}
+
+	private static List<Integer> listWithLiteral(SessionFactoryScope scope, String title) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final JpaRoot<Book> root = query.from( Book.class );
+			query.select( root.get( "id" ) ).where( cb.equal( root.get( "title" ), cb.literal( title ) ) );
+			return session.createQuery( query ).list();
+		} );
+	}
+
+	private static List<Author> listWithBooks(SessionFactoryScope scope, boolean fetch) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Author> query = cb.createQuery( Author.class );
+			final JpaRoot<Author> root = query.from( Author.class );
+			if ( fetch ) {
+				root.fetch( "books", JoinType.LEFT );
+			}
+			else {
+				root.join( "books", JoinType.LEFT );
+			}
+			return session.createQuery( query.select( root ) ).list();
+		} );
+	}
+
+	private static List<Integer> listMatching(SessionFactoryScope scope, String pattern, boolean caseSensitive) {
+		return scope.fromTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final JpaRoot<Book> root = query.from( Book.class );
+			query.select( root.get( "id" ) )
+					.where(
+							caseSensitive
+									? cb.like( root.get( "title" ), pattern )
+									: cb.ilike( root.get( "title" ), pattern )
+					);
+			return session.createQuery( query ).list();
+		} );
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
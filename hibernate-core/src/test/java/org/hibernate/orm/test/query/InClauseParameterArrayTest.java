@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a parameter list in an {@code IN} predicate is bound as a single
+ * array once the number of values reaches the configured threshold.
+ */
+@DomainModel(annotatedClasses = InClauseParameterArrayTest.Person.class)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				provider = InClauseParameterArrayTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		),
+		settings = @Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_THRESHOLD, value = "4")
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class InClauseParameterArrayTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public boolean useArrayForMultiValuedParameters() {
+			return true;
+		}
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Person( i, "person" + i ) );
+			}
+		} );
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testArrayParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		assertThat( listWithIds( scope, ids( 1, 4 ) ) ).containsExactlyElementsOf( ids( 1, 4 ) );
+		assertThat( listWithIds( scope, ids( 3, 10 ) ) ).containsExactlyElementsOf( ids( 3, 10 ) );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) )
+				.isEqualTo( statementInspector.getSqlQueries().get( 1 ) )
+				.contains( "array_contains(" );
+
+		// below the threshold the values are expanded
+		assertThat( listWithIds( scope, ids( 1, 3 ) ) ).containsExactlyElementsOf( ids( 1, 3 ) );
+		assertThat( statementInspector.getSqlQueries().get( 2 ) ).doesNotContain( "array_contains(" );
+	}
+
+	@Test
+	public void testNegatedPredicate(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		final List<Integer> ids = scope.fromTransaction(
+				session -> session.createSelectionQuery( "select id from Person where id not in :ids order by id", Integer.class )
+						.setParameterList( "ids", ids( 1, 8 ) )
+						.list()
+		);
+		assertThat( ids ).containsExactly( 9, 10 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "array_contains(" );
+	}
+
+	@Test
+	public void testDelete(SessionFactoryScope scope) {
+		final int deleted = scope.fromTransaction(
+				session -> session.createMutationQuery( "delete from Person where id in :ids" )
+						.setParameterList( "ids", ids( 1, 5 ) )
+						.executeUpdate()
+		);
+		assertThat( deleted ).isEqualTo( 5 );
+		assertThat( listWithIds( scope, ids( 1, 10 ) ) ).containsExactlyElementsOf( ids( 6, 10 ) );
+	}
+
+	private static List<Integer> ids(int first, int last) {
+		final List<Integer> ids = new ArrayList<>( last - first + 1 );
+		for ( int id = first; id <= last; id++ ) {
+			ids.add( id );
+		}
+		return ids;
+	}
+
+	private static List<Integer> listWithIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( "select id from Person where id in :ids order by id", Integer.class )
+						.setParameterList( "ids", ids )
+						.list()
+		);
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
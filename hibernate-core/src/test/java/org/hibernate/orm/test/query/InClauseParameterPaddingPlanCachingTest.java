@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that queries with a parameter list in an {@code IN} predicate share a
+ * query plan for all numbers of values which are padded to the same size.
+ */
+@DomainModel(annotatedClasses = InClauseParameterPaddingPlanCachingTest.Person.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseParameterPaddingPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 8; i++ ) {
+				session.persist( new Person( i, "person" + i ) );
+			}
+		} );
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPaddedSelect(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		assertThat( listWithIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( listWithIds( scope, List.of( 4, 5, 6, 7 ) ) ).containsExactly( 4, 5, 6, 7 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) )
+				.isEqualTo( statementInspector.getSqlQueries().get( 1 ) );
+
+		// the number of values is padded to a different size
+		assertThat( listWithIds( scope, List.of( 1, 2, 3, 4, 5 ) ) ).containsExactly( 1, 2, 3, 4, 5 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+		assertThat( listWithIds( scope, List.of( 8 ) ) ).containsExactly( 8 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testPaddedDelete(SessionFactoryScope scope) {
+		assertThat( deleteWithIds( scope, List.of( 1, 2, 3 ) ) ).isEqualTo( 3 );
+		assertThat( deleteWithIds( scope, List.of( 4, 5, 6, 7 ) ) ).isEqualTo( 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertThat( listWithIds( scope, List.of( 3, 7, 8 ) ) ).containsExactly( 8 );
+	}
+
+	private static List<Integer> listWithIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( "select id from Person where id in :ids order by id", Integer.class )
+						.setParameterList( "ids", ids )
+						.list()
+		);
+	}
+
+	private static int deleteWithIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction(
+				session -> session.createMutationQuery( "delete from Person where id in :ids" )
+						.setParameterList( "ids", ids )
+						.executeUpdate()
+		);
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the plans of insert, update and delete statements are cached.
+ */
+@DomainModel(
+		annotatedClasses = {
+				MutationQueryPlanCachingTest.Account.class,
+				MutationQueryPlanCachingTest.Animal.class,
+				MutationQueryPlanCachingTest.Dog.class
+		}
+)
+@SessionFactory
+public class MutationQueryPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Account( i, 0 ) );
+				session.persist( new Dog( i, "dog" + i ) );
+			}
+		} );
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		for ( int id = 1; id <= 4; id++ ) {
+			final int accountId = id;
+			final int updated = scope.fromTransaction(
+					session -> session.createMutationQuery( "update Account set balance = balance + :amount where id = :id" )
+							.setParameter( "amount", accountId * 10 )
+							.setParameter( "id", accountId )
+							.executeUpdate()
+			);
+			assertThat( updated ).isEqualTo( 1 );
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 4; id++ ) {
+				assertThat( session.find( Account.class, id ).balance ).isEqualTo( id * 10 );
+			}
+		} );
+	}
+
+	@Test
+	public void testDeleteWithParameterList(SessionFactoryScope scope) {
+		assertThat( deleteAccounts( scope, List.of( 1 ) ) ).isEqualTo( 1 );
+		assertThat( deleteAccounts( scope, List.of( 2 ) ) ).isEqualTo( 1 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a different number of values requires a different plan
+		assertThat( deleteAccounts( scope, List.of( 3, 4 ) ) ).isEqualTo( 2 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testMultiTableUpdate(SessionFactoryScope scope) {
+		for ( int id = 1; id <= 4; id++ ) {
+			final int dogId = id;
+			final int updated = scope.fromTransaction(
+					session -> session.createMutationQuery( "update Dog set name = :name, barks = true where id = :id" )
+							.setParameter( "name", "renamed" + dogId )
+							.setParameter( "id", dogId )
+							.executeUpdate()
+			);
+			assertThat( updated ).isEqualTo( 1 );
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 4; id++ ) {
+				final Dog dog = session.find( Dog.class, id );
+				assertThat( ( (Animal) dog ).name ).isEqualTo( "renamed" + id );
+				assertThat( dog.barks ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdateConcurrently(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 40; i++ ) {
+				final int id = i % 4 + 1;
+				futures.add( executor.submit( () -> scope.inTransaction(
+						session -> assertThat(
+								session.createMutationQuery( "update Account set balance = balance + 1 where id in :ids" )
+										.setParameterList( "ids", List.of( id ) )
+										.executeUpdate()
+						).isEqualTo( 1 )
+				) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 4; id++ ) {
+				assertThat( session.find( Account.class, id ).balance ).isEqualTo( 10 );
+			}
+		} );
+	}
+
+	private static int deleteAccounts(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction(
+				session -> session.createMutationQuery( "delete from Account where id in :ids" )
+						.setParameterList( "ids", ids )
+						.executeUpdate()
+		);
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private int balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		private boolean barks;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name) {
+			super( id, name );
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that query plans are cached for queries with multi-valued parameters and
+ * queries with an applied entity graph.
+ */
+@DomainModel(
+		annotatedClasses = {
+				ParameterListAndEntityGraphQueryPlanCachingTest.Author.class,
+				ParameterListAndEntityGraphQueryPlanCachingTest.Book.class
+		}
+)
+@SessionFactory
+public class ParameterListAndEntityGraphQueryPlanCachingTest {
+
+	private static final String IN_LIST_QUERY = "select a.id from Author a where a.id in :ids order by a.id";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Author author = new Author( i, "author" + i );
+				session.persist( author );
+				session.persist( new Book( i, "book" + i, author ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		interpretationCache( scope ).close();
+	}
+
+	@Test
+	public void testParameterList(SessionFactoryScope scope) {
+		assertThat( listWithIds( scope, List.of( 1 ) ) ).containsExactly( 1 );
+		assertThat( listWithIds( scope, List.of( 2 ) ) ).containsExactly( 2 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a different number of values requires a different plan
+		assertThat( listWithIds( scope, List.of( 1, 2 ) ) ).containsExactly( 1, 2 );
+		assertThat( listWithIds( scope, List.of( 3, 4 ) ) ).containsExactly( 3, 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+
+		// as does a single value bound to the parameter
+		final List<Integer> single = scope.fromTransaction(
+				session -> session.createQuery( IN_LIST_QUERY, Integer.class ).setParameter( "ids", 3 ).list()
+		);
+		assertThat( single ).containsExactly( 3 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testParameterListConcurrently(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 40; i++ ) {
+				final int first = i % 4 + 1;
+				final int count = i % 3 + 1;
+				futures.add( executor.submit( () -> {
+					final List<Integer> ids = new ArrayList<>();
+					for ( int id = first; id < first + count; id++ ) {
+						ids.add( id );
+					}
+					final Set<Integer> expected = new HashSet<>( ids );
+					expected.removeIf( id -> id > 4 );
+					assertThat( listWithIds( scope, ids ) ).containsExactlyInAnyOrderElementsOf( expected );
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testEntityGraph(SessionFactoryScope scope) {
+		final List<Author> authors = listWithGraph( scope, true );
+		assertThat( authors ).hasSize( 4 );
+		assertThat( authors ).allMatch( author -> Hibernate.isInitialized( author.books ) );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a distinct graph instance with the same structure reuses the plan
+		assertThat( listWithGraph( scope, true ) ).allMatch( author -> Hibernate.isInitialized( author.books ) );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+
+		// a graph with a different structure requires a different plan
+		assertThat( listWithGraph( scope, false ) ).noneMatch( author -> Hibernate.isInitialized( author.books ) );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	private static List<Integer> listWithIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromTransaction(
+				session -> session.createQuery( IN_LIST_QUERY, Integer.class ).setParameterList( "ids", ids ).list()
+		);
+	}
+
+	private static List<Author> listWithGraph(SessionFactoryScope scope, boolean fetchBooks) {
+		return scope.fromTransaction( session -> {
+			final RootGraph<Author> graph = session.createEntityGraph( Author.class );
+			graph.addAttributeNodes( "name" );
+			if ( fetchBooks ) {
+				graph.addAttributeNodes( "books" );
+			}
+			return session.createQuery( "select a from Author a", Author.class )
+					.setEntityGraph( graph, GraphSemantic.FETCH )
+					.list();
+		} );
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.H2SqlAstTranslator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.exec.spi.JdbcOperation;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a cached select query plan whose SQL depends on the parameter values
+ * renders the SQL again for different values, while reusing the query plan.
+ * The test dialect renders all query parameters as literals.
+ */
+@DomainModel(annotatedClasses = SqlAstRetranslationTest.Person.class)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				provider = SqlAstRetranslationTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class SqlAstRetranslationTest {
+	private static final String HQL = "select id from Person where id > :min order by id";
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		// the statements which were translated
+		private static final List<Statement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
+			return new StandardSqlAstTranslatorFactory() {
+				@Override
+				protected <T extends JdbcOperation> SqlAstTranslator<T> buildTranslator(
+						SessionFactoryImplementor sessionFactory, Statement statement) {
+					STATEMENTS.add( statement );
+					return new H2SqlAstTranslator<>( sessionFactory, statement ) {
+						@Override
+						protected SqlAstNodeRenderingMode getParameterRenderingMode() {
+							// entity loaders are translated without parameter bindings
+							return getJdbcParameterBindings() == null
+									? super.getParameterRenderingMode()
+									: SqlAstNodeRenderingMode.INLINE_PARAMETERS;
+						}
+					};
+				}
+			};
+		}
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Person( i, "person" + i ) );
+			}
+		} );
+		interpretationCache( scope ).close();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInlinedParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		TestDialect.STATEMENTS.clear();
+
+		assertThat( listGreaterThan( scope, 3 ) ).containsExactly( 4, 5, 6 );
+		assertThat( listGreaterThan( scope, 5 ) ).containsExactly( 6 );
+		assertThat( listGreaterThan( scope, 3 ) ).containsExactly( 4, 5, 6 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertSqlAstReused();
+
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries.get( 0 ) ).isNotEqualTo( sqlQueries.get( 1 ) );
+		assertThat( sqlQueries.get( 0 ) ).isEqualTo( sqlQueries.get( 2 ) );
+	}
+
+	@Test
+	public void testInlinedParameterWithLimit(SessionFactoryScope scope) {
+		TestDialect.STATEMENTS.clear();
+		assertThat( listGreaterThan( scope, 1, 2 ) ).containsExactly( 2, 3 );
+		assertThat( listGreaterThan( scope, 3, 2 ) ).containsExactly( 4, 5 );
+		assertThat( listGreaterThan( scope, 3, 1 ) ).containsExactly( 4 );
+		assertThat( interpretationCache( scope ).getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+		assertSqlAstReused();
+	}
+
+	/**
+	 * Every execution translated the SQL AST which was created from the SQM tree
+	 * for the first execution, rather than a new one.
+	 */
+	private static void assertSqlAstReused() {
+		final List<Statement> statements = TestDialect.STATEMENTS;
+		assertThat( statements ).hasSize( 3 ).allMatch( statement -> statement == statements.get( 0 ) );
+	}
+
+	private static List<Integer> listGreaterThan(SessionFactoryScope scope, int min) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( HQL, Integer.class )
+						.setParameter( "min", min )
+						.list()
+		);
+	}
+
+	private static List<Integer> listGreaterThan(SessionFactoryScope scope, int min, int maxResults) {
+		return scope.fromTransaction(
+				session -> session.createSelectionQuery( HQL, Integer.class )
+						.setParameter( "min", min )
+						.setMaxResults( maxResults )
+						.list()
+		);
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.InstantiationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the invocation of constructors of dynamic instantiations and of query
+ * result types, with primitive, nullable and many arguments.
+ */
+@DomainModel(annotatedClasses = {
+		InstantiationConstructorInvocationTest.Book.class
+})
+@SessionFactory
+public class InstantiationConstructorInvocationTest {
+	private static final String BOOK_SUMMARY = BookSummary.class.getName();
+	private static final String CHECKED_BOOK = CheckedBook.class.getName();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action", 400, 39.9, null ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", 880, 59.9, "2nd edition" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		final List<BookSummary> summaries = scope.fromSession(
+				session -> session.createSelectionQuery(
+						"select new " + BOOK_SUMMARY + "(b.id, b.title, b.pages, b.price, b.edition) from Book b order by b.id",
+						BookSummary.class
+				).getResultList()
+		);
+
+		assertThat( summaries ).containsExactly(
+				new BookSummary( 1, "Hibernate in Action", 400, 39.9, null ),
+				new BookSummary( 2, "Java Persistence with Hibernate", 880, 59.9, "2nd edition" )
+		);
+	}
+
+	@Test
+	public void testNestedDynamicInstantiation(SessionFactoryScope scope) {
+		final List<Object[]> results = scope.fromSession(
+				session -> session.createSelectionQuery(
+						"select b.id, new " + BOOK_SUMMARY + "(b.id, b.title, b.pages, b.price, b.edition)"
+								+ " from Book b order by b.id",
+						Object[].class
+				).getResultList()
+		);
+
+		assertThat( results ).hasSize( 2 );
+		assertThat( results.get( 1 )[1] )
+				.isEqualTo( new BookSummary( 2, "Java Persistence with Hibernate", 880, 59.9, "2nd edition" ) );
+	}
+
+	@Test
+	public void testResultTypeConstructor(SessionFactoryScope scope) {
+		final List<BookTitle> titles = scope.fromSession(
+				session -> session.createSelectionQuery(
+						"select b.id, b.title, b.edition from Book b order by b.id",
+						BookTitle.class
+				).getResultList()
+		);
+
+		assertThat( titles ).containsExactly(
+				new BookTitle( 1, "Hibernate in Action", null ),
+				new BookTitle( 2, "Java Persistence with Hibernate", "2nd edition" )
+		);
+	}
+
+	@Test
+	public void testConstructorExceptionWrapped(SessionFactoryScope scope) {
+		assertThatThrownBy( () -> scope.inSession(
+				session -> session.createSelectionQuery(
+						"select new " + CHECKED_BOOK + "(b.title, b.edition) from Book b",
+						CheckedBook.class
+				).getResultList()
+		) ).hasMessageContaining( CheckedBook.class.getName() )
+				.hasRootCauseInstanceOf( IllegalArgumentException.class )
+				.hasRootCauseMessage( "No edition" );
+
+		assertThatThrownBy( () -> scope.inSession(
+				session -> session.createSelectionQuery( "select b.title, b.edition from Book b", CheckedBook.class )
+						.getResultList()
+		) ).isInstanceOf( InstantiationException.class )
+				.hasMessageContaining( CheckedBook.class.getName() )
+				.hasRootCauseInstanceOf( IllegalArgumentException.class )
+				.hasRootCauseMessage( "No edition" );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		private int pages;
+
+		private double price;
+
+		private String edition;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int pages, double price, String edition) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+			this.price = price;
+			this.edition = edition;
+		}
+	}
+
+	public record BookSummary(int id, String title, int pages, double price, String edition) {
+	}
+
+	public record BookTitle(Integer id, String title, String edition) {
+	}
+
+	public record CheckedBook(String title, String edition) {
+		public CheckedBook {
+			if ( edition == null ) {
+				throw new IllegalArgumentException( "No edition" );
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.resource.transaction.jdbc.autocommit;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a JDBC connection is not acquired when a transaction begins, but when the
+ * transaction first executes a statement, if {@value AvailableSettings#DELAY_TRANSACTION_BEGIN}
+ * is enabled.
+ */
+@DomainModel(annotatedClasses = DelayTransactionBeginTest.City.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DELAY_TRANSACTION_BEGIN, value = "true"),
+				@Setting(name = AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, value = "false"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class DelayTransactionBeginTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		final Map<String, Object> props = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) props.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new City( 1L, "Cluj-Napoca" ) ) );
+		connectionProvider.clear();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from City" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedTransactionAcquiresNoConnection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.find( City.class, 1L ).name ).isEqualTo( "Cluj-Napoca" );
+			assertThat( session.getTransaction().isActive() ).isTrue();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getConnectCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTransactionBegunOnFirstStatement(SessionFactoryScope scope) throws Exception {
+		scope.inTransaction( session -> {
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+			session.persist( new City( 2L, "Iasi" ) );
+			session.flush();
+			assertThat( isPhysicallyConnected( session ) ).isTrue();
+			session.doWork( connection -> assertThat( connection.getAutoCommit() ).isFalse() );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getConnectCount() ).isEqualTo( 1 );
+
+		final List<Connection> connections = connectionProvider.getReleasedConnections();
+		assertThat( connections ).hasSize( 1 );
+		final List<Object[]> setAutoCommitCalls = connectionProvider.spyContext.getCalls(
+				Connection.class.getMethod( "setAutoCommit", boolean.class ),
+				connections.get( 0 )
+		);
+		assertThat( setAutoCommitCalls ).isNotEmpty();
+		assertThat( setAutoCommitCalls.get( setAutoCommitCalls.size() - 1 ) ).containsExactly( false );
+		assertThat( connectionProvider.spyContext.getCalls( Connection.class.getMethod( "commit" ), connections.get( 0 ) ) )
+				.hasSize( 1 );
+	}
+
+	@Test
+	public void testRollbackOfDelayedTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.beginTransaction();
+			session.persist( new City( 2L, "Iasi" ) );
+			session.flush();
+			session.getTransaction().rollback();
+		} );
+		scope.inTransaction( session -> assertThat( session.find( City.class, 2L ) ).isNull() );
+	}
+
+	private static boolean isPhysicallyConnected(SessionImplementor session) {
+		return session.getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected();
+	}
+
+	@Entity(name = "City")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class City {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public City() {
+		}
+
+		public City(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.schemaupdate.index;
+
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.mapping.Index;
+import org.hibernate.tool.schema.internal.SchemaCreatorImpl;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the type and options of an {@link Index} in the generated DDL.
+ */
+public class IndexOptionsTest {
+	private StandardServiceRegistry ssr;
+	private Metadata metadata;
+
+	@BeforeEach
+	public void setUp() {
+		ssr = ServiceRegistryUtil.serviceRegistry();
+		metadata = new MetadataSources( ssr )
+				.addAnnotatedClass( Document.class )
+				.buildMetadata();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@Test
+	public void testOptions() {
+		assertThat( createIndexCommand( "title_index" ) )
+				.endsWith( "(title) with (fillfactor = 70)" );
+	}
+
+	@Test
+	public void testType() {
+		final Index index = metadata.getDatabase().getDefaultNamespace().locateTable(
+				metadata.getDatabase().toIdentifier( "Document" )
+		).getIndex( "title_index" );
+		index.setType( "hash" );
+		assertThat( createIndexCommand( "title_index" ) )
+				.containsIgnoringCase( "using hash (title) with (fillfactor = 70)" );
+	}
+
+	private String createIndexCommand(String indexName) {
+		final List<String> commands = new SchemaCreatorImpl( ssr ).generateCreationCommands( metadata, false );
+		return commands.stream()
+				.filter( command -> command.toLowerCase().startsWith( "create index " + indexName ) )
+				.findFirst()
+				.orElseThrow();
+	}
+
+	@Entity(name = "Document")
+	@Table(indexes = @jakarta.persistence.Index(
+			name = "title_index",
+			columnList = "title",
+			options = "with (fillfactor = 70)"
+	))
+	public static class Document {
+		@Id
+		private Long id;
+		private String title;
+	}
+}
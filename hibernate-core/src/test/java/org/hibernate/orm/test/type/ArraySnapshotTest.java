@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.type;
+
+import org.hibernate.annotations.Mutability;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the snapshots taken of array valued attributes, and the dirty checking
+ * against them.
+ */
+@DomainModel(annotatedClasses = ArraySnapshotTest.Embedding.class)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStructuralArrays.class)
+public class ArraySnapshotTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Embedding(
+				1,
+				new float[] { 1f, 2f, 3f },
+				new float[] { 4f, 5f, 6f },
+				new Float[] { 7f, 8f, 9f }
+		) ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Embedding" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMutableArrayCopied(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Embedding embedding = session.find( Embedding.class, 1 );
+			final float[] snapshot = (float[]) entry( session, embedding ).getLoadedValue( "vector" );
+			assertThat( snapshot ).isNotSameAs( embedding.vector ).containsExactly( embedding.vector );
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertExecutedCount( 0 );
+
+			embedding.vector[1] = 20f;
+			session.flush();
+			statementInspector.assertIsUpdate( 0 );
+		} );
+	}
+
+	@Test
+	public void testImmutableArrayShared(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Embedding embedding = session.find( Embedding.class, 1 );
+			assertThat( entry( session, embedding ).getLoadedValue( "fixedVector" ) ).isSameAs( embedding.fixedVector );
+
+			embedding.fixedVector = new float[] { 4f, 50f, 6f };
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertIsUpdate( 0 );
+		} );
+		scope.inTransaction(
+				session -> assertThat( session.find( Embedding.class, 1 ).fixedVector ).containsExactly( 4f, 50f, 6f )
+		);
+	}
+
+	@Test
+	public void testBoxedArrayCopied(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Embedding embedding = session.find( Embedding.class, 1 );
+			final Float[] snapshot = (Float[]) entry( session, embedding ).getLoadedValue( "boxedVector" );
+			assertThat( snapshot ).isNotSameAs( embedding.boxedVector ).containsExactly( embedding.boxedVector );
+			// the elements are immutable, and shared with the snapshot
+			assertThat( snapshot[0] ).isSameAs( embedding.boxedVector[0] );
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertExecutedCount( 0 );
+
+			embedding.boxedVector[2] = 90f;
+			session.flush();
+			statementInspector.assertIsUpdate( 0 );
+		} );
+	}
+
+	private static EntityEntry entry(SessionImplementor session, Object entity) {
+		return session.getPersistenceContextInternal().getEntry( entity );
+	}
+
+	@Entity(name = "Embedding")
+	public static class Embedding {
+		@Id
+		private Integer id;
+
+		private float[] vector;
+
+		@Mutability(Immutability.class)
+		private float[] fixedVector;
+
+		private Float[] boxedVector;
+
+		public Embedding() {
+		}
+
+		public Embedding(Integer id, float[] vector, float[] fixedVector, Float[] boxedVector) {
+			this.id = id;
+			this.vector = vector;
+			this.fixedVector = fixedVector;
+			this.boxedVector = boxedVector;
+		}
+	}
+}
@@ -70,6 +70,7 @@ public class Configuration {
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
+	private final int relationBatchFetchSize;
 	private final boolean globalLegacyRelationTargetNotFound;
 
 	private final boolean trackEntitiesChanged;
@@ -89,6 +90,7 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndUpdateBatchingEnabled;
 	private final boolean revisionSequenceNoCache;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
@@ -129,6 +131,7 @@ public class Configuration {
 		modifiedFlagsEnabled = configProps.getBoolean( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG, false );
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
+		relationBatchFetchSize = configProps.getInt( EnversSettings.RELATION_BATCH_FETCH_SIZE, 1 );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
@@ -170,6 +173,11 @@ public class Configuration {
 			revisionEndTimestampUseLegacyPlacement = true;
 		}
 
+		revisionEndUpdateBatchingEnabled = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES,
+				false
+		);
+
 		embeddableSetOrdinalPropertyName = configProps.getString(
 				EnversSettings.EMBEDDABLE_SET_ORDINAL_FIELD_NAME,
 				DEFAULT_SETORDINAL_FIELD
@@ -229,6 +237,10 @@ public class Configuration {
 		return findByRevisionExactMatch;
 	}
 
+	public int getRelationBatchFetchSize() {
+		return relationBatchFetchSize;
+	}
+
 	public boolean isGlobalLegacyRelationTargetNotFound() {
 		return globalLegacyRelationTargetNotFound;
 	}
@@ -245,6 +257,10 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public boolean isRevisionEndUpdateBatchingEnabled() {
+		return revisionEndUpdateBatchingEnabled;
+	}
+
 	public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
@@ -432,6 +448,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
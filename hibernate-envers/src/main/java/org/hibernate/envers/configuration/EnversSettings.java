@@ -130,6 +130,18 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether the validity audit strategy should collect the identifiers of all entities of an audited type
+	 * modified within a transaction and set the end revision of their previous audit rows using a single
+	 * {@code UPDATE ... WHERE id IN (...)} statement, rather than one statement per modified entity.
+	 * Only entities with a single-column identifier are batched, others always use one statement per entity.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES = "org.hibernate.envers.audit_strategy_validity_batch_revend_updates";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -155,6 +167,16 @@ public interface EnversSettings {
 	 */
 	String FIND_BY_REVISION_EXACT_MATCH = "org.hibernate.envers.find_by_revision_exact_match";
 
+	/**
+	 * Maximum number of uninitialized lazy audited to-one associations, referencing the same entity type at
+	 * the same revision, which are loaded together using a single query when one of them gets initialized.
+	 *
+	 * Defaults to {@literal 1}, meaning associations are loaded one by one.
+	 *
+	 * @since 7.0
+	 */
+	String RELATION_BATCH_FETCH_SIZE = "org.hibernate.envers.relation_batch_fetch_size";
+
 	/**
 	 * Specifies the {@link org.hibernate.envers.boot.spi.ModifiedColumnNamingStrategy} to use
 	 *
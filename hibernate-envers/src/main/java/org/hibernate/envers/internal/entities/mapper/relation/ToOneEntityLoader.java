@@ -7,10 +7,13 @@
 package org.hibernate.envers.internal.entities.mapper.relation;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -36,6 +39,10 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			final int batchSize = enversService.getConfig().getRelationBatchFetchSize();
+			if ( batchSize > 1 ) {
+				batchLoad( versionsReader, entityClass, entityName, entityId, revision, removed, batchSize );
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -44,6 +51,37 @@ public final class ToOneEntityLoader {
 		}
 	}
 
+	/**
+	 * Loads the historical entity together with the other uninitialized proxies of the same entity
+	 * and revision, using a single query. The loaded entities are put into the first level cache.
+	 */
+	private static void batchLoad(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			Number revision,
+			boolean removed,
+			int batchSize) {
+		if ( versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+			return;
+		}
+
+		final List<Object> entityIds = versionsReader.getFirstLevelCache()
+				.getBatchLoadableIds( entityName, revision, removed, entityId, batchSize );
+		if ( entityIds.size() > 1 ) {
+			final AuditDisjunction idRestriction = AuditEntity.disjunction();
+			for ( Object id : entityIds ) {
+				idRestriction.add( AuditEntity.id().eq( id ) );
+			}
+			// The results are put into the cache by the entity instantiator called from the query
+			versionsReader.createQuery()
+					.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+					.add( idRestriction )
+					.getResultList();
+		}
+	}
+
 	/**
 	 * Creates proxy of referenced *-to-one entity.
 	 */
@@ -59,6 +97,10 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( enversService.getConfig().getRelationBatchFetchSize() > 1
+				&& enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			versionsReader.getFirstLevelCache().addBatchLoadableId( entityName, revision, removed, entityId );
+		}
 		return persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
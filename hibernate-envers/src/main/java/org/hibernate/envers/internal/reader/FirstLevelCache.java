@@ -7,7 +7,12 @@
 package org.hibernate.envers.internal.reader;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.envers.internal.EnversMessageLogger;
 import org.hibernate.envers.internal.tools.Triple;
@@ -41,9 +46,16 @@ public class FirstLevelCache {
 	 */
 	private final Map<Triple<Object, Number, Object>, String> entityNameCache;
 
+	/**
+	 * ids of uninitialized to-one proxies for a given entityName, revision and removed flag,
+	 * which may be loaded together with the next one being initialized.
+	 */
+	private final Map<Triple<String, Number, Boolean>, Set<Object>> batchLoadableIds;
+
 	public FirstLevelCache() {
 		cache = newHashMap();
 		entityNameCache = newHashMap();
+		batchLoadableIds = newHashMap();
 	}
 
 	public Object get(String entityName, Number revision, Object id) {
@@ -118,4 +130,56 @@ public class FirstLevelCache {
 	public boolean containsEntityName(Object id, Number revision, Object entity) {
 		return entityNameCache.containsKey( make( id, revision, entity ) );
 	}
+
+	/**
+	 * Registers the id of an uninitialized proxy, so that it can be batch loaded together with
+	 * another proxy of the same entity, revision and removed flag.
+	 *
+	 * @param entityName name of the referenced entity
+	 * @param revision revision number
+	 * @param removed whether removed entities may be loaded
+	 * @param id primaryKey
+	 */
+	public void addBatchLoadableId(String entityName, Number revision, boolean removed, Object id) {
+		batchLoadableIds.computeIfAbsent( make( entityName, revision, removed ), key -> new LinkedHashSet<>() )
+				.add( id );
+	}
+
+	/**
+	 * Gets the ids to load together with the given one, which is always the first returned. The returned ids
+	 * are no longer considered batch loadable afterward.
+	 *
+	 * @param entityName name of the referenced entity
+	 * @param revision revision number
+	 * @param removed whether removed entities may be loaded
+	 * @param id primaryKey being loaded
+	 * @param batchSize maximum number of ids to return
+	 *
+	 * @return the ids to load, never empty
+	 */
+	public List<Object> getBatchLoadableIds(String entityName, Number revision, boolean removed, Object id, int batchSize) {
+		final List<Object> ids = new ArrayList<>( batchSize );
+		ids.add( id );
+
+		final Set<Object> pendingIds = batchLoadableIds.get( make( entityName, revision, removed ) );
+		if ( pendingIds != null ) {
+			pendingIds.remove( id );
+			final Iterator<Object> iterator = pendingIds.iterator();
+			while ( iterator.hasNext() && ids.size() < batchSize ) {
+				final Object pendingId = iterator.next();
+				iterator.remove();
+				if ( !contains( entityName, revision, pendingId ) ) {
+					ids.add( pendingId );
+				}
+			}
+		}
+
+		LOG.debugf(
+				"Resolved ids to batch load: EntityName:%s - revision:%s - primaryKeys:%s",
+				entityName,
+				revision,
+				ids
+		);
+		return ids;
+	}
 }
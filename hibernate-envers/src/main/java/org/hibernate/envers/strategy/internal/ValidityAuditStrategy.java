@@ -10,7 +10,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -18,6 +21,7 @@ import java.util.Map;
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -88,6 +92,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	/**
+	 * End revision updates not yet executed, keyed by the revision entity they belong to.
+	 * Only used when {@link Configuration#isRevisionEndUpdateBatchingEnabled()}.
+	 */
+	private final Map<Object, EndRevisionUpdateBatch> pendingEndRevisionUpdates =
+			Collections.synchronizedMap( new IdentityHashMap<>() );
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -173,7 +184,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			if ( configuration.isRevisionEndUpdateBatchingEnabled()
+					&& isEndRevisionUpdateBatchable( entityName, (SessionImplementor) session ) ) {
+				// Defer to a single set-based UPDATE statement per audited entity type.
+				getEndRevisionUpdateBatch( session, configuration, revision )
+						.add( entityName, auditedEntityName, id, revisionType );
+				sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+				return;
+			}
+
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
 			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
 				// Construct the update contexts
@@ -182,7 +203,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 						auditedEntityName,
 						sessionImplementor,
 						configuration,
-						id,
+						Collections.singletonList( id ),
 						revision
 				);
 
@@ -200,7 +221,6 @@ public class ValidityAuditStrategy implements AuditStrategy {
 				for ( UpdateContext context : contexts ) {
 					final int rows = executeUpdate( sessionImplementor, context );
 					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
 						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
 							throw new AuditException(
 									String.format(
@@ -489,12 +509,35 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	private boolean isEndRevisionUpdateBatchable(String entityName, SessionImplementor session) {
+		// only single-column identifiers can be restricted using a plain IN predicate
+		final EntityPersister entity = getEntityPersister( entityName, session );
+		return getEntityPersister( entity.getRootEntityName(), session ).getIdentifierColumnNames().length == 1;
+	}
+
+	private EndRevisionUpdateBatch getEndRevisionUpdateBatch(Session session, Configuration configuration, Object revision) {
+		EndRevisionUpdateBatch batch = pendingEndRevisionUpdates.get( revision );
+		if ( batch == null ) {
+			final EndRevisionUpdateBatch newBatch = new EndRevisionUpdateBatch( configuration, revision );
+			pendingEndRevisionUpdates.put( revision, newBatch );
+
+			// Register transaction completion process to guarantee execution of UPDATE statements after INSERT.
+			( (EventSource) session ).getActionQueue().registerProcess( newBatch );
+			// Make sure a batch which never got executed does not outlive the transaction.
+			( (EventSource) session ).getActionQueue().registerProcess(
+					(success, sessionImplementor) -> pendingEndRevisionUpdates.remove( revision, newBatch )
+			);
+			batch = newBatch;
+		}
+		return batch;
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<?> ids,
 			Object revision) {
 
 		EntityPersister entity = getEntityPersister( entityName, session );
@@ -511,7 +554,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 									auditEntityName,
 									session,
 									configuration,
-									id,
+									ids,
 									revision
 							)
 					);
@@ -529,7 +572,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 						auditEntityName,
 						session,
 						configuration,
-						id,
+						ids,
 						revision
 				)
 		);
@@ -542,7 +585,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<?> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -575,9 +618,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampAttributeMapping );
 		}
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( rootEntity.getIdentifierColumnNames() );
-		context.bind( id, rootEntity.getIdentifierMapping() );
+		// Apply "WHERE (entity_id) = ?" or, for a batch of entities, "WHERE entity_id in (?, ...)"
+		context.addIdentifierRestriction( rootEntity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierMapping() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -599,7 +644,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 * @param auditEntityName the audited entity name
 	 * @param session the session
 	 * @param configuration the configuration
-	 * @param id the entity identifier
+	 * @param ids the entity identifiers
 	 * @param revision the revision entity
 	 * @return the created update context instance, never {@code null}.
 	 */
@@ -608,7 +653,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<?> ids,
 			Object revision) {
 
 		final EntityPersister entity = getEntityPersister( entityName, session );
@@ -631,9 +676,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// Apply "WHERE (entity_id) = ? AND REV <> ?" portion of the SQL
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addRestriction( entity.getIdentifierColumnNames() );
-		context.bind( id, entity.getIdentifierType() );
+		// Apply "WHERE (entity_id) = ?" or, for a batch of entities, "WHERE entity_id in (?, ...)"
+		context.addIdentifierRestriction( entity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, entity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -680,6 +727,116 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		public void bind(Object value, ModelPart part) {
 			bindings.add( new QueryParameterBindingPart( value, part ) );
 		}
+
+		public void addIdentifierRestriction(String[] columnNames, int count) {
+			if ( count == 1 ) {
+				addRestriction( columnNames );
+			}
+			else {
+				// only single-column identifiers are ever batched
+				assert columnNames.length == 1;
+				restrictions.add( (sqlBuffer, context) -> {
+					sqlBuffer.append( columnNames[0] ).append( " in (" );
+					for ( int i = 0; i < count; i++ ) {
+						if ( i > 0 ) {
+							sqlBuffer.append( ", " );
+						}
+						sqlBuffer.append( context.makeParameterMarker() );
+					}
+					sqlBuffer.append( ')' );
+				} );
+			}
+		}
+	}
+
+	/**
+	 * Collects the identifiers of the entities whose previous audit row needs its end revision
+	 * set within a given revision, and updates them using one statement per audited entity type.
+	 */
+	private class EndRevisionUpdateBatch implements BeforeTransactionCompletionProcess {
+		private final Configuration configuration;
+		private final Object revision;
+		private final Map<String, EntityEndRevisionUpdates> updatesByEntityName = new LinkedHashMap<>();
+
+		public EndRevisionUpdateBatch(Configuration configuration, Object revision) {
+			this.configuration = configuration;
+			this.revision = revision;
+		}
+
+		public void add(String entityName, String auditedEntityName, Object id, RevisionType revisionType) {
+			updatesByEntityName.computeIfAbsent(
+					entityName,
+					name -> new EntityEndRevisionUpdates( name, auditedEntityName )
+			).add( id, revisionType );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			pendingEndRevisionUpdates.remove( revision, this );
+
+			final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+			for ( EntityEndRevisionUpdates updates : updatesByEntityName.values() ) {
+				// leave room for the end revision, end revision timestamp and revision parameters
+				final int batchSize = parameterCountLimit > 0 ? parameterCountLimit - 3 : updates.ids.size();
+				for ( int start = 0; start < updates.ids.size(); start += batchSize ) {
+					updates.execute( session, start, Math.min( start + batchSize, updates.ids.size() ) );
+				}
+			}
+		}
+
+		private class EntityEndRevisionUpdates {
+			private final String entityName;
+			private final String auditedEntityName;
+			private final List<Object> ids = new ArrayList<>();
+			private final List<RevisionType> revisionTypes = new ArrayList<>();
+
+			public EntityEndRevisionUpdates(String entityName, String auditedEntityName) {
+				this.entityName = entityName;
+				this.auditedEntityName = auditedEntityName;
+			}
+
+			public void add(Object id, RevisionType revisionType) {
+				ids.add( id );
+				revisionTypes.add( revisionType );
+			}
+
+			public void execute(SessionImplementor session, int start, int end) {
+				final List<Object> batchIds = ids.subList( start, end );
+
+				// When the application reuses identifiers, an ADD does not necessarily have a previous row
+				int expectedRows = 0;
+				for ( RevisionType revisionType : revisionTypes.subList( start, end ) ) {
+					if ( revisionType != RevisionType.ADD ) {
+						expectedRows++;
+					}
+				}
+
+				final List<UpdateContext> contexts = getUpdateContexts(
+						entityName,
+						auditedEntityName,
+						session,
+						configuration,
+						batchIds,
+						revision
+				);
+
+				for ( UpdateContext context : contexts ) {
+					final int rows = executeUpdate( session, context );
+					if ( rows < expectedRows || rows > batchIds.size() ) {
+						throw new AuditException(
+								String.format(
+										Locale.ENGLISH,
+										"Cannot update previous revisions for entity %s and ids %s (%s rows modified, %s expected).",
+										auditedEntityName,
+										batchIds,
+										rows,
+										expectedRows
+								)
+						);
+					}
+				}
+			}
+		}
 	}
 
 	private interface QueryParameterBinding {
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.proxy;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests that uninitialized proxies of audited to-one associations are loaded together
+ * when a relation batch fetch size is configured.
+ */
+public class ProxyBatchLoadingTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 4;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.RELATION_BATCH_FETCH_SIZE, "3" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			final SetRefEdEntity ed = new SetRefEdEntity( i, "ed" + i );
+			em.persist( ed );
+			em.persist( new SetRefIngEntity( i, "ing" + i, ed ) );
+		}
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testReferencesLoadedInBatches() {
+		final List<SetRefIngEntity> ings = getAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 1 )
+				.getResultList();
+		assertEquals( ENTITY_COUNT, ings.size() );
+		for ( SetRefIngEntity ing : ings ) {
+			assertFalse( Hibernate.isInitialized( ing.getReference() ) );
+		}
+
+		statementInspector.clear();
+		for ( SetRefIngEntity ing : ings ) {
+			assertEquals( "ed" + ing.getId(), ing.getReference().getData() );
+		}
+
+		// one batch of 3 and a single remaining reference
+		assertEquals( 2, countReferenceQueries() );
+	}
+
+	private long countReferenceQueries() {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).contains( "from setrefedentity_aud" ) )
+				.count();
+	}
+}
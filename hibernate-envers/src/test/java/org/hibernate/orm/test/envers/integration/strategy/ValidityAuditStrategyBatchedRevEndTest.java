@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the end revision of the previous audit rows of all entities modified
+ * in a transaction is set using a single statement when batching is enabled.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES, "true" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "x" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		statementInspector.clear();
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "y" + id );
+		}
+		em.getTransaction().commit();
+		assertEquals( 1, countEndRevisionUpdates() );
+
+		// Revision 3
+		statementInspector.clear();
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.remove( em.find( StrTestEntity.class, id ) );
+		}
+		em.getTransaction().commit();
+		assertEquals( 1, countEndRevisionUpdates() );
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testEntitiesAtRevisions() {
+		final List<StrTestEntity> ver1 = new ArrayList<>();
+		final List<StrTestEntity> ver2 = new ArrayList<>();
+		for ( int i = 0; i < ids.size(); i++ ) {
+			ver1.add( new StrTestEntity( "x" + i, ids.get( i ) ) );
+			ver2.add( new StrTestEntity( "y" + ids.get( i ), ids.get( i ) ) );
+		}
+
+		assertEquals( new HashSet<>( ver1 ), new HashSet<>( entitiesAtRevision( 1 ) ) );
+		assertEquals( new HashSet<>( ver2 ), new HashSet<>( entitiesAtRevision( 2 ) ) );
+		assertTrue( entitiesAtRevision( 3 ).isEmpty() );
+	}
+
+	private List<?> entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrTestEntity.class, revision )
+				.getResultList();
+	}
+
+	private long countEndRevisionUpdates() {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update str_test_aud" ) )
+				.count();
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.stat;
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -16,6 +17,9 @@ import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.binder.MeterBinder;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionPoolMetrics;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -25,7 +29,9 @@ import java.util.function.ToDoubleFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
- * same statistics as would be exposed when calling {@link Statistics#logSummary()}.
+ * same statistics as would be exposed when calling {@link Statistics#logSummary()},
+ * along with the state of the connection pool, if the {@link ConnectionProvider}
+ * exposes it as {@link ConnectionPoolMetrics}.
  */
 @NonNullApi
 @NonNullFields
@@ -37,6 +43,7 @@ public class HibernateMetrics implements MeterBinder {
 	private final Iterable<Tag> tags;
 
 	private final @Nullable Statistics statistics;
+	private final @Nullable ConnectionPoolMetrics connectionPoolMetrics;
 
 	/**
 	 * Create {@code HibernateMetrics} and bind to the specified meter registry.
@@ -82,6 +89,16 @@ public class HibernateMetrics implements MeterBinder {
 		this.cacheFactoryPrefix = sessionFactory.getSessionFactoryOptions().getCacheRegionPrefix();
 		Statistics statistics = sessionFactory.getStatistics();
 		this.statistics = statistics.isStatisticsEnabled() ? statistics : null;
+		this.connectionPoolMetrics = connectionPoolMetrics( sessionFactory );
+	}
+
+	private static @Nullable ConnectionPoolMetrics connectionPoolMetrics(SessionFactory sessionFactory) {
+		final ConnectionProvider connectionProvider = sessionFactory.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+		return connectionProvider != null && connectionProvider.isUnwrappableAs( ConnectionPoolMetrics.class )
+				? connectionProvider.unwrap( ConnectionPoolMetrics.class )
+				: null;
 	}
 
 	private void counter(
@@ -101,8 +118,37 @@ public class HibernateMetrics implements MeterBinder {
 				.register( registry );
 	}
 
+	private void gauge(
+			MeterRegistry registry,
+			String name,
+			String description,
+			ToDoubleFunction<ConnectionPoolMetrics> f) {
+		if ( this.connectionPoolMetrics == null ) {
+			return;
+		}
+
+		Gauge.builder( name, connectionPoolMetrics, f )
+				.tags( tags )
+				.description( description )
+				.register( registry );
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
+		// Connection pool
+		gauge(registry, "hibernate.connections.active", "The number of connections obtained from the pool",
+				ConnectionPoolMetrics::getActiveCount
+		);
+		gauge(registry, "hibernate.connections.idle", "The number of idle connections held by the pool",
+				ConnectionPoolMetrics::getIdleCount
+		);
+		gauge(registry, "hibernate.connections.pending", "The number of threads waiting for a connection",
+				ConnectionPoolMetrics::getPendingCount
+		);
+		gauge(registry, "hibernate.connections.max", "The maximum number of connections obtained from the pool",
+				ConnectionPoolMetrics::getMaxSize
+		);
+
 		if ( this.statistics == null ) {
 			return;
 		}
@@ -144,6 +190,16 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry,
+				"hibernate.statements.cache",
+				"The number of prepared statements that were reused from the statement cache",
+				Statistics::getPreparedStatementCacheHitCount,
+				"result",
+				"hit"
+		);
+		counter(registry, "hibernate.statements.cache", "The number of prepared statements not found in the statement cache",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
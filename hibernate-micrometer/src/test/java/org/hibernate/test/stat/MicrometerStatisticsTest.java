@@ -72,6 +72,10 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.optimistic.failures").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.flushes").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.connections.obtained").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.connections.active").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.idle").gauge());
+		Assert.assertNotNull(registry.get("hibernate.connections.pending").gauge());
+		Assert.assertTrue(registry.get("hibernate.connections.max").gauge().value() > 0);
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
@@ -123,6 +127,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertEquals( 1, registry.get("hibernate.sessions.closed").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.entities.inserts").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
+		Assert.assertEquals( 0, registry.get("hibernate.connections.pending").gauge().value(), 0 );
 
 		// clean up
 		session = openSession();
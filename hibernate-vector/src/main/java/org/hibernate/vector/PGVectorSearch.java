@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.sql.Statement;
+
+import org.hibernate.Incubating;
+import org.hibernate.SharedSessionContract;
+
+/**
+ * Sets the pgvector parameters which control the accuracy of queries using an
+ * approximate nearest neighbour {@linkplain VectorIndex index}.
+ * <p>
+ * The parameters are set using {@code set local}, and so they apply to the
+ * queries executed by the session until the end of the current transaction.
+ * They must be set after the transaction was started.
+ * <pre>
+ * session.inTransaction( tx -&gt; {
+ *     PGVectorSearch.setEfSearch( session, 100 );
+ *     List&lt;Document&gt; nearest =
+ *             session.createSelectionQuery( "from Document d order by cosine_distance(d.embedding, :vec)", Document.class )
+ *                     .setParameter( "vec", vector )
+ *                     .setMaxResults( 10 )
+ *                     .getResultList();
+ * } );
+ * </pre>
+ */
+@Incubating
+public final class PGVectorSearch {
+
+	private PGVectorSearch() {
+	}
+
+	/**
+	 * Set the size of the list of candidates considered by a search using an
+	 * {@link VectorIndex.Type#HNSW} index. A larger value is slower, but more
+	 * accurate.
+	 */
+	public static void setEfSearch(SharedSessionContract session, int efSearch) {
+		set( session, "hnsw.ef_search", efSearch );
+	}
+
+	/**
+	 * Set the number of lists probed by a search using an
+	 * {@link VectorIndex.Type#IVFFLAT} index. A larger value is slower, but
+	 * more accurate.
+	 */
+	public static void setProbes(SharedSessionContract session, int probes) {
+		set( session, "ivfflat.probes", probes );
+	}
+
+	private static void set(SharedSessionContract session, String parameter, int value) {
+		if ( value < 1 ) {
+			throw new IllegalArgumentException( "Value of '" + parameter + "' must be positive: " + value );
+		}
+		session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "set local " + parameter + " = " + value );
+			}
+		} );
+	}
+}
@@ -11,6 +11,7 @@ import java.lang.reflect.Type;
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.boot.model.TypeContributor;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PgJdbcHelper;
 import org.hibernate.dialect.PostgreSQLDialect;
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -28,6 +29,9 @@ import org.hibernate.type.spi.TypeConfiguration;
 
 public class PGVectorTypeContributor implements TypeContributor {
 
+	// loaded reflectively, since it depends on the PostgreSQL JDBC driver
+	private static final String PG_JDBC_VECTOR_JDBC_TYPE = "org.hibernate.vector.PgJdbcVectorJdbcType";
+
 	private static final Type[] VECTOR_JAVA_TYPES = {
 			Float[].class,
 			float[].class
@@ -42,7 +46,9 @@ public class PGVectorTypeContributor implements TypeContributor {
 			final JdbcTypeRegistry jdbcTypeRegistry = typeConfiguration.getJdbcTypeRegistry();
 			final BasicTypeRegistry basicTypeRegistry = typeConfiguration.getBasicTypeRegistry();
 			final BasicType<Float> floatBasicType = basicTypeRegistry.resolve( StandardBasicTypes.FLOAT );
-			final ArrayJdbcType vectorJdbcType = new VectorJdbcType( jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ) );
+			final ArrayJdbcType vectorJdbcType = PgJdbcHelper.isUsable( serviceRegistry )
+					? (ArrayJdbcType) PgJdbcHelper.createJdbcType( serviceRegistry, PG_JDBC_VECTOR_JDBC_TYPE )
+					: new VectorJdbcType( jdbcTypeRegistry.getDescriptor( SqlTypes.FLOAT ) );
 			jdbcTypeRegistry.addDescriptor( SqlTypes.VECTOR, vectorJdbcType );
 			for ( Type vectorJavaType : VECTOR_JAVA_TYPES ) {
 				basicTypeRegistry.register(
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.FloatJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+import org.postgresql.PGConnection;
+
+/**
+ * A {@link VectorJdbcType} which binds {@code float[]} values through the pgjdbc
+ * {@link PGConnection#createArrayOf(String, Object)} primitive array support,
+ * which avoids boxing every element, and lets the driver send the array in
+ * binary form. The {@code real[]} is then cast to {@code vector} by the database.
+ * <p>
+ * Only usable if the PostgreSQL JDBC driver is on the class path, and only loaded
+ * through the {@link org.hibernate.boot.registry.classloading.spi.ClassLoaderService}.
+ */
+public class PgJdbcVectorJdbcType extends VectorJdbcType {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A vector of {@link FloatJdbcType} elements. Used to construct the type
+	 * reflectively through {@link org.hibernate.dialect.PgJdbcHelper}.
+	 */
+	public PgJdbcVectorJdbcType() {
+		this( FloatJdbcType.INSTANCE );
+	}
+
+	public PgJdbcVectorJdbcType(JdbcType elementJdbcType) {
+		super( elementJdbcType );
+	}
+
+	@Override
+	public <X> ValueBinder<X> getBinder(JavaType<X> javaTypeDescriptor) {
+		final ValueBinder<X> arrayBinder = super.getBinder( javaTypeDescriptor );
+		if ( javaTypeDescriptor.getJavaTypeClass() != float[].class ) {
+			return arrayBinder;
+		}
+		return new BasicBinder<>( javaTypeDescriptor, this ) {
+			@Override
+			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+				final Connection connection = st.getConnection();
+				if ( connection.isWrapperFor( PGConnection.class ) ) {
+					st.setArray( index, createArray( connection, value, options ) );
+				}
+				else {
+					arrayBinder.bind( st, value, index, options );
+				}
+			}
+
+			@Override
+			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+					throws SQLException {
+				final Connection connection = st.getConnection();
+				if ( connection.isWrapperFor( PGConnection.class ) ) {
+					st.setObject( name, createArray( connection, value, options ), Types.ARRAY );
+				}
+				else {
+					arrayBinder.bind( st, value, name, options );
+				}
+			}
+
+			@Override
+			public Object getBindValue(X value, WrapperOptions options) throws SQLException {
+				return arrayBinder.getBindValue( value, options );
+			}
+
+			private java.sql.Array createArray(Connection connection, X value, WrapperOptions options)
+					throws SQLException {
+				final float[] floats = getJavaType().unwrap( value, float[].class, options );
+				return connection.unwrap( PGConnection.class ).createArrayOf( "float4", floats );
+			}
+		};
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+import org.hibernate.annotations.AttributeBinderType;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares an approximate nearest neighbour index on the column mapped by
+ * a vector attribute, to be created by schema export.
+ * <pre>
+ * &#64;JdbcTypeCode(SqlTypes.VECTOR)
+ * &#64;Array(length = 1536)
+ * &#64;VectorIndex(type = VectorIndex.Type.HNSW, distance = VectorIndex.Distance.COSINE)
+ * float[] embedding;
+ * </pre>
+ * <p>
+ * The index is only used by queries which order by the distance function
+ * matching its {@link #distance()}, for example {@code cosine_distance}.
+ * The number of candidates considered by such a query may be tuned using
+ * {@link PGVectorSearch}.
+ * <p>
+ * This annotation is only supported on PostgreSQL with pgvector, and is
+ * ignored on other databases.
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+@AttributeBinderType(binder = VectorIndexBinder.class)
+@Incubating
+public @interface VectorIndex {
+
+	/**
+	 * The name of the index, or an empty string for a generated name.
+	 */
+	String name() default "";
+
+	/**
+	 * The kind of index.
+	 */
+	Type type() default Type.HNSW;
+
+	/**
+	 * The distance function the index is built for.
+	 */
+	Distance distance() default Distance.L2;
+
+	/**
+	 * For an {@link Type#HNSW} index, the maximum number of connections
+	 * per layer, or {@code 0} for the database default.
+	 */
+	int m() default 0;
+
+	/**
+	 * For an {@link Type#HNSW} index, the size of the list of candidates
+	 * used when building the graph, or {@code 0} for the database default.
+	 */
+	int efConstruction() default 0;
+
+	/**
+	 * For an {@link Type#IVFFLAT} index, the number of inverted lists,
+	 * or {@code 0} for the database default.
+	 */
+	int lists() default 0;
+
+	enum Type {
+		/**
+		 * A hierarchical navigable small world graph.
+		 */
+		HNSW,
+		/**
+		 * An inverted file index of flat vectors.
+		 */
+		IVFFLAT
+	}
+
+	enum Distance {
+		/**
+		 * For {@code euclidean_distance} or {@code l2_distance}.
+		 */
+		L2( "vector_l2_ops" ),
+		/**
+		 * For {@code cosine_distance}.
+		 */
+		COSINE( "vector_cosine_ops" ),
+		/**
+		 * For {@code inner_product} or {@code negative_inner_product}.
+		 */
+		INNER_PRODUCT( "vector_ip_ops" ),
+		/**
+		 * For {@code taxicab_distance} or {@code l1_distance}, only supported
+		 * by {@link Type#HNSW} indexes.
+		 */
+		L1( "vector_l1_ops" );
+
+		private final String operatorClass;
+
+		Distance(String operatorClass) {
+			this.operatorClass = operatorClass;
+		}
+
+		public String getOperatorClass() {
+			return operatorClass;
+		}
+	}
+}
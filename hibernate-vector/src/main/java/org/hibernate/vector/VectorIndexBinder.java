@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.AnnotationException;
+import org.hibernate.binder.AttributeBinder;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.ImplicitIndexNameSource;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Table;
+
+/**
+ * Binds the {@link VectorIndex} annotation to an {@link Index} of type
+ * {@code hnsw} or {@code ivfflat}.
+ */
+public class VectorIndexBinder implements AttributeBinder<VectorIndex> {
+
+	@Override
+	public void bind(
+			VectorIndex vectorIndex,
+			MetadataBuildingContext buildingContext,
+			PersistentClass persistentClass,
+			Property property) {
+		final Database database = buildingContext.getMetadataCollector().getDatabase();
+		final Dialect dialect = database.getJdbcEnvironment().getDialect();
+		if ( !( dialect instanceof PostgreSQLDialect ) ) {
+			return;
+		}
+		final List<Column> columns = property.getColumns();
+		if ( columns.size() != 1 ) {
+			throw new AnnotationException( "Property '" + property.getName() + "' of entity '"
+					+ persistentClass.getEntityName()
+					+ "' is annotated '@VectorIndex' but does not map to exactly one column" );
+		}
+		final Column column = columns.get( 0 );
+		final Table table = property.getValue().getTable();
+		final Identifier name = buildingContext.getBuildingOptions().getImplicitNamingStrategy()
+				.determineIndexName( new ImplicitIndexNameSource() {
+					@Override
+					public Identifier getTableName() {
+						return table.getNameIdentifier();
+					}
+
+					@Override
+					public List<Identifier> getColumnNames() {
+						return List.of( database.toIdentifier( column.getName() ) );
+					}
+
+					@Override
+					public Identifier getUserProvidedIdentifier() {
+						return vectorIndex.name().isEmpty() ? null : database.toIdentifier( vectorIndex.name() );
+					}
+
+					@Override
+					public MetadataBuildingContext getBuildingContext() {
+						return buildingContext;
+					}
+				} );
+		final Index index = table.getOrCreateIndex( name.render( dialect ) );
+		index.setType( vectorIndex.type().name().toLowerCase( Locale.ROOT ) );
+		index.addColumn( column, vectorIndex.distance().getOperatorClass() );
+		index.setOptions( options( vectorIndex ) );
+	}
+
+	private static String options(VectorIndex vectorIndex) {
+		final StringBuilder options = new StringBuilder();
+		switch ( vectorIndex.type() ) {
+			case HNSW:
+				appendOption( options, "m", vectorIndex.m() );
+				appendOption( options, "ef_construction", vectorIndex.efConstruction() );
+				break;
+			case IVFFLAT:
+				appendOption( options, "lists", vectorIndex.lists() );
+				break;
+		}
+		return options.isEmpty() ? null : options.append( ')' ).toString();
+	}
+
+	private static void appendOption(StringBuilder options, String name, int value) {
+		if ( value > 0 ) {
+			options.append( options.isEmpty() ? "with (" : ", " ).append( name ).append( " = " ).append( value );
+		}
+	}
+}
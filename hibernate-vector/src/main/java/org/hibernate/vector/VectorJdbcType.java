@@ -9,7 +9,6 @@ package org.hibernate.vector;
 import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.BitSet;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.sql.ast.spi.SqlAppender;
@@ -67,33 +66,37 @@ public class VectorJdbcType extends ArrayJdbcType {
 				return javaTypeDescriptor.wrap( getFloatArray( statement.getString( name ) ), options );
 			}
 
-			private float[] getFloatArray(String string) {
-				if ( string == null ) {
-					return null;
-				}
-				if ( string.length() == 2 ) {
-					return EMPTY;
-				}
-				final BitSet commaPositions = new BitSet();
-				int size = 1;
-				for ( int i = 1; i < string.length(); i++ ) {
-					final char c = string.charAt( i );
-					if ( c == ',' ) {
-						commaPositions.set( i );
-						size++;
-					}
-				}
-				final float[] result = new float[size];
-				int floatStartIndex = 1;
-				int commaIndex;
-				int index = 0;
-				while ( ( commaIndex = commaPositions.nextSetBit( floatStartIndex ) ) != -1 ) {
-					result[index++] = Float.parseFloat( string.substring( floatStartIndex, commaIndex ) );
-					floatStartIndex = commaIndex + 1;
-				}
-				result[index] = Float.parseFloat( string.substring( floatStartIndex, string.length() - 1 ) );
-				return result;
-			}
 		};
 	}
+
+	/**
+	 * Parses the text representation {@code [x1,x2,...]} of a vector. The commas are
+	 * counted first, to size the array, and then the elements between them are parsed.
+	 */
+	static float[] getFloatArray(String string) {
+		if ( string == null ) {
+			return null;
+		}
+		if ( string.length() == 2 ) {
+			return EMPTY;
+		}
+		final int end = string.length() - 1;
+		int size = 1;
+		for ( int i = 1; i < end; i++ ) {
+			if ( string.charAt( i ) == ',' ) {
+				size++;
+			}
+		}
+		final float[] result = new float[size];
+		int floatStartIndex = 1;
+		for ( int index = 0; index < size; index++ ) {
+			int commaIndex = string.indexOf( ',', floatStartIndex );
+			if ( commaIndex == -1 ) {
+				commaIndex = end;
+			}
+			result[index] = Float.parseFloat( string.substring( floatStartIndex, commaIndex ) );
+			floatStartIndex = commaIndex + 1;
+		}
+		return result;
+	}
 }
@@ -221,6 +221,45 @@ public class PGVectorTest {
 		} );
 	}
 
+	@Test
+	public void testBindFloatArray(SessionFactoryScope scope) {
+		// bound as a primitive float4 array when using pgjdbc
+		final float[] vector = new float[]{ 0.5f, -1.25f, 3e-5f };
+		scope.inTransaction( em -> {
+			em.createMutationQuery( "update VectorEntity e set e.theVector = :vec where e.id = 1" )
+					.setParameter( "vec", vector )
+					.executeUpdate();
+		} );
+		scope.inTransaction( em -> {
+			assertArrayEquals( vector, em.find( VectorEntity.class, 1L ).getTheVector() );
+			final List<Long> ids = em.createSelectionQuery( "select e.id from VectorEntity e where e.theVector = :vec", Long.class )
+					.setParameter( "vec", vector )
+					.getResultList();
+			assertEquals( List.of( 1L ), ids );
+		} );
+	}
+
+	@Test
+	public void testSingleElementVector(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final List<Tuple> results = em.createSelectionQuery( "select vector_dims(:vec), vector_norm(:vec), cast('[7.5]' as vector) from VectorEntity e where e.id = 1", Tuple.class )
+					.setParameter( "vec", new float[]{ 7.5f } )
+					.getResultList();
+			assertEquals( 1, results.size() );
+			assertEquals( 1, results.get( 0 ).get( 0 ) );
+			assertEquals( 7.5D, results.get( 0 ).get( 1, Double.class ), 0D );
+			assertArrayEquals( new float[]{ 7.5f }, results.get( 0 ).get( 2, float[].class ) );
+		} );
+	}
+
+	@Test
+	public void testParseVectorText() {
+		// pgvector doesn't allow vectors without dimensions, so the empty text isn't read from the database
+		assertArrayEquals( new float[0], VectorJdbcType.getFloatArray( "[]" ) );
+		assertArrayEquals( new float[]{ 7.5f }, VectorJdbcType.getFloatArray( "[7.5]" ) );
+		assertArrayEquals( new float[]{ 1, -2.5f, 3e-5f }, VectorJdbcType.getFloatArray( "[1,-2.5,3e-05]" ) );
+	}
+
 	private static double cosineDistance(float[] f1, float[] f2) {
 		return 1D - innerProduct( f1, f2 ) / ( euclideanNorm( f1 ) * euclideanNorm( f2 ) );
 	}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.util.List;
+
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.tool.schema.internal.SchemaCreatorImpl;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the DDL generated for {@link VectorIndex}.
+ */
+public class VectorIndexTest {
+	private StandardServiceRegistry ssr;
+	private Metadata metadata;
+
+	@BeforeEach
+	public void setUp() {
+		ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, PostgreSQLDialect.class.getName() )
+				.applySetting( AvailableSettings.ALLOW_METADATA_ON_BOOT, false )
+				.build();
+		metadata = new MetadataSources( ssr )
+				.addAnnotatedClass( Document.class )
+				.buildMetadata();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy( ssr );
+	}
+
+	@Test
+	public void testHnswIndex() {
+		assertThat( createIndexCommands() ).contains(
+				"create index hnsw_index on Document using hnsw (embedding vector_cosine_ops) with (m = 16, ef_construction = 64)"
+		);
+	}
+
+	@Test
+	public void testIvfflatIndex() {
+		assertThat( createIndexCommands() ).contains(
+				"create index ivfflat_index on Document using ivfflat (otherEmbedding vector_l2_ops) with (lists = 100)"
+		);
+	}
+
+	private List<String> createIndexCommands() {
+		return new SchemaCreatorImpl( ssr ).generateCreationCommands( metadata, false )
+				.stream()
+				.filter( command -> command.startsWith( "create index" ) )
+				.toList();
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		//tag::vector-index-example[]
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		@VectorIndex(name = "hnsw_index", distance = VectorIndex.Distance.COSINE, m = 16, efConstruction = 64)
+		private float[] embedding;
+		//end::vector-index-example[]
+
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		@VectorIndex(name = "ivfflat_index", type = VectorIndex.Type.IVFFLAT, lists = 100)
+		private float[] otherEmbedding;
+	}
+}
@@ -15,6 +15,7 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -40,6 +41,7 @@ import org.hibernate.bytecode.spi.BytecodeProvider;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
+import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.PROXY_CLASS_NAME_SUFFIX;
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 
 /**
@@ -83,6 +85,9 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "generateProxies", defaultValue = "false")
+	private boolean generateProxies;
+
 	private boolean shouldApply() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
@@ -179,16 +184,22 @@ public class MavenEnhancePlugin extends AbstractMojo {
 				if(! (classesToEnhance.size()==0 || classesToEnhance.contains(className))) {
 					continue;
 				}
+				if ( className.endsWith( PROXY_CLASS_NAME_SUFFIX ) ) {
+					// a proxy generated by a previous execution
+					continue;
+				}
 
 				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-				if ( enhancedBytecode == null ) {
-					continue;
+				if ( enhancedBytecode != null ) {
+					writeOutEnhancedClass( enhancedBytecode, file );
+					if ( log.isDebugEnabled() ) {
+						log.debug( "Successfully enhanced class [" + file + "]" );
+					}
 				}
 
-				writeOutEnhancedClass( enhancedBytecode, file );
-				if ( log.isDebugEnabled() ) {
-					log.debug( "Successfully enhanced class [" + file + "]" );
+				if ( generateProxies ) {
+					generateProxy( file, enhancer );
 				}
 			}
 		}
@@ -270,6 +281,49 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private void generateProxy(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
+		final byte[] proxyBytecode;
+		try {
+			String className = javaClassFile.getAbsolutePath().substring(
+					base.length() + 1,
+					javaClassFile.getAbsolutePath().length() - ".class".length()
+			).replace( File.separatorChar, '.' );
+			proxyBytecode = enhancer.generateProxy( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate proxy for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		if ( proxyBytecode == null ) {
+			return;
+		}
+
+		final File proxyClassFile = new File(
+				javaClassFile.getParentFile(),
+				javaClassFile.getName().replace( ".class", PROXY_CLASS_NAME_SUFFIX + ".class" )
+		);
+		try ( OutputStream outputStream = buildContext.newFileOutputStream( proxyClassFile ) ) {
+			outputStream.write( proxyBytecode );
+			outputStream.flush();
+		}
+		catch (IOException e) {
+			String msg = String.format( "Error writing proxy class [%s] to file [%s]", proxyClassFile.getName(), proxyClassFile.getAbsolutePath() );
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( proxyClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+		if ( getLog().isDebugEnabled() ) {
+			getLog().debug( "Successfully generated proxy class [" + proxyClassFile + "]" );
+		}
+	}
+
 	private void discoverTypes(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
 			String className = javaClassFile.getAbsolutePath().substring(
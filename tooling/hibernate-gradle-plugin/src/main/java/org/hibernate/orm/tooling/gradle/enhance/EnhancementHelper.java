@@ -25,6 +25,7 @@ import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
 
+import static org.hibernate.bytecode.enhance.spi.EnhancerConstants.PROXY_CLASS_NAME_SUFFIX;
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
 import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
 
@@ -53,7 +54,7 @@ public class EnhancementHelper {
 		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
 
 		discoverTypes( classesDir, classesDir, enhancer, project );
-		doEnhancement( classesDir, classesDir, enhancer, project, classesToEnhance );
+		doEnhancement( classesDir, classesDir, enhancer, project, classesToEnhance, enhancementDsl.getGenerateProxies().get() );
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -76,10 +77,16 @@ public class EnhancementHelper {
 		}
 	}
 
-	private static void doEnhancement(File classesDir, File dir, Enhancer enhancer, Project project, List<String> classesToEnhance) {
+	private static void doEnhancement(
+			File classesDir,
+			File dir,
+			Enhancer enhancer,
+			Project project,
+			List<String> classesToEnhance,
+			boolean generateProxies) {
 		for ( File subLocation : dir.listFiles() ) {
 			if ( subLocation.isDirectory() ) {
-				doEnhancement( classesDir, subLocation, enhancer, project, classesToEnhance );
+				doEnhancement( classesDir, subLocation, enhancer, project, classesToEnhance, generateProxies );
 			}
 			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
 				final String className = determineClassName( classesDir, subLocation );
@@ -88,8 +95,15 @@ public class EnhancementHelper {
 				if(! (classesToEnhance.size()==0 || classesToEnhance.contains(className))) {
 					continue;
 				}
+				if ( className.endsWith( PROXY_CLASS_NAME_SUFFIX ) ) {
+					// a proxy generated by a previous run
+					continue;
+				}
 
 				enhance( subLocation, className, enhancer, project );
+				if ( generateProxies ) {
+					generateProxy( subLocation, className, enhancer, project );
+				}
 
 				final boolean timestampReset = subLocation.setLastModified( lastModified );
 				if ( !timestampReset ) {
@@ -129,6 +143,34 @@ public class EnhancementHelper {
 		}
 	}
 
+	private static void generateProxy(
+			File javaClassFile,
+			String className,
+			Enhancer enhancer,
+			Project project) {
+		final byte[] proxyBytecode;
+		try {
+			proxyBytecode = enhancer.generateProxy( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			throw new GradleException( "Unable to generate proxy for class : " + className, e );
+		}
+
+		if ( proxyBytecode != null ) {
+			final File proxyClassFile = new File(
+					javaClassFile.getParentFile(),
+					javaClassFile.getName().replace( ".class", PROXY_CLASS_NAME_SUFFIX + ".class" )
+			);
+			try {
+				Files.write( proxyClassFile.toPath(), proxyBytecode );
+			}
+			catch (IOException e) {
+				throw new GradleException( "Error writing proxy class to file [" + proxyClassFile.getAbsolutePath() + "]", e );
+			}
+			project.getLogger().info( "Successfully generated proxy for class : " + className );
+		}
+	}
+
 	private static byte[] doEnhancement(File javaClassFile, String className, Enhancer enhancer) {
 		try {
 			return enhancer.enhance( className, Files.readAllBytes( javaClassFile.toPath() ) );
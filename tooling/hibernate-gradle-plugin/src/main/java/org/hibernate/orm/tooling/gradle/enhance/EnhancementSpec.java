@@ -33,6 +33,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> generateProxies;
 	private final ListProperty<String> classNames;
 
 
@@ -44,6 +45,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		generateProxies = makeProperty( project ).convention( false );
 		classNames = project.getObjects().listProperty(String.class).convention(new ArrayList<>());
 	}
 
@@ -90,6 +92,14 @@ public class EnhancementSpec {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether the lazy loading proxy classes of entities should be generated at build time,
+	 * rather than when the {@code SessionFactory} is built.
+	 */
+	public Property<Boolean> getGenerateProxies() {
+		return generateProxies;
+	}
+
 	/**
 	 * Returns the classes on which enhancement needs to be done
 	 */